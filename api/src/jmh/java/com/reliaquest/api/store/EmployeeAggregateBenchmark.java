@@ -0,0 +1,97 @@
+package com.reliaquest.api.store;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Salary aggregates and a title/salary/age filter computed over the {@link Employee} list with streams against the
+ * same work over {@link EmployeeColumns}.
+ *
+ * <p>Run with {@code ./gradlew :api:jmh -PjmhArgs='EmployeeAggregateBenchmark'}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmployeeAggregateBenchmark {
+
+    private static final String[] TITLES = {"Engineer", "Manager", "Analyst", "Designer", "Director", "Support"};
+    private static final String TITLE = "analyst";
+    private static final int MIN_SALARY = 80_000;
+    private static final int MAX_SALARY = 150_000;
+    private static final int MIN_AGE = 25;
+    private static final int MAX_AGE = 45;
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private List<Employee> employees;
+    private EmployeeColumns columns;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(7);
+        EmployeeInterner interner = new EmployeeInterner();
+        employees = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            // A fresh title String per employee, as each one is decoded from its own JSON object
+            employees.add(interner.intern(
+                    String.valueOf(i),
+                    "Employee " + i,
+                    30_000 + random.nextInt(200_000),
+                    18 + random.nextInt(50),
+                    new String(TITLES[random.nextInt(TITLES.length)]),
+                    "employee" + i + "@example.com"));
+        }
+        columns = EmployeeColumns.of(employees);
+    }
+
+    @Benchmark
+    public void aggregatesWithStreams(Blackhole blackhole) {
+        blackhole.consume(employees.stream().mapToInt(Employee::salary).max());
+        blackhole.consume(employees.stream().mapToInt(Employee::salary).min());
+        blackhole.consume(employees.stream().mapToLong(Employee::salary).sum());
+    }
+
+    @Benchmark
+    public void aggregatesWithColumns(Blackhole blackhole) {
+        blackhole.consume(columns.highestSalary());
+        blackhole.consume(columns.lowestSalary());
+        blackhole.consume(columns.totalSalary());
+    }
+
+    @Benchmark
+    public List<Employee> filterWithStreams() {
+        return employees.stream()
+                .filter(employee -> employee.salary() >= MIN_SALARY && employee.salary() <= MAX_SALARY)
+                .filter(employee -> employee.age() >= MIN_AGE && employee.age() <= MAX_AGE)
+                .filter(employee -> TITLE.equalsIgnoreCase(employee.title()))
+                .toList();
+    }
+
+    @Benchmark
+    public List<Employee> filterWithColumns() {
+        int[] matches = columns.matching(TITLE, MIN_SALARY, MAX_SALARY, MIN_AGE, MAX_AGE);
+        List<Employee> matched = new ArrayList<>(matches.length);
+        for (int index : matches) {
+            matched.add(employees.get(index));
+        }
+        return matched;
+    }
+}
@@ -0,0 +1,237 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.exception.ApiException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+/**
+ * AIMD limiter in front of the Mock Employee API. The upstream grants a hidden budget of requests and then locks the
+ * client out for a while, counted from the last request it admitted. This filter mirrors that model: it admits up to
+ * {@code limit} requests per cycle, then holds further requests until {@code window} has passed since the last one.
+ *
+ * <p>The two estimates are learned from responses. Every cycle that is used up without a 429 raises the limit by one
+ * (additive increase); a 429 scales it by {@code decrease-ratio} (multiplicative decrease) and starts a fresh cooldown.
+ * A 429 on the first request of a cycle means the cooldown was too short, so the window grows by half. Requests that
+ * would have to wait longer than {@code max-queue-wait-ms}, or arrive while {@code max-queue} are already waiting,
+ * are shed locally with a 429 instead of being sent into the lockout.
+ */
+@Component
+@Slf4j
+public class AdaptiveRateLimiter implements ExchangeFilterFunction {
+
+    private static final double INCREASE_STEP = 1.0;
+    private static final double WINDOW_GROWTH = 1.5;
+
+    private final double minLimit;
+    private final double maxLimit;
+    private final double decreaseRatio;
+    private final long maxWindowMillis;
+    private final int maxQueue;
+    private final long maxQueueWaitMillis;
+    private final LongSupplier clock;
+
+    private final Counter admitted;
+    private final Counter queued;
+    private final Counter shed;
+    private final Counter throttled;
+
+    // Guarded by this
+    private double limit;
+    private long windowMillis;
+    private long cycleStart;
+    private int cycleUsed;
+    private boolean cycleThrottled;
+    private long lastSlotAt;
+    private long epoch;
+    private int waiting;
+
+    @Autowired
+    public AdaptiveRateLimiter(
+            @Value("${web-client.rate-limit.initial-limit}") double initialLimit,
+            @Value("${web-client.rate-limit.min-limit}") double minLimit,
+            @Value("${web-client.rate-limit.max-limit}") double maxLimit,
+            @Value("${web-client.rate-limit.decrease-ratio}") double decreaseRatio,
+            @Value("${web-client.rate-limit.initial-window-ms}") long initialWindowMillis,
+            @Value("${web-client.rate-limit.max-window-ms}") long maxWindowMillis,
+            @Value("${web-client.rate-limit.max-queue}") int maxQueue,
+            @Value("${web-client.rate-limit.max-queue-wait-ms}") long maxQueueWaitMillis,
+            MeterRegistry meterRegistry) {
+        this(
+                initialLimit,
+                minLimit,
+                maxLimit,
+                decreaseRatio,
+                initialWindowMillis,
+                maxWindowMillis,
+                maxQueue,
+                maxQueueWaitMillis,
+                meterRegistry,
+                System::currentTimeMillis);
+    }
+
+    AdaptiveRateLimiter(
+            double initialLimit,
+            double minLimit,
+            double maxLimit,
+            double decreaseRatio,
+            long initialWindowMillis,
+            long maxWindowMillis,
+            int maxQueue,
+            long maxQueueWaitMillis,
+            MeterRegistry meterRegistry,
+            LongSupplier clock) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.decreaseRatio = decreaseRatio;
+        this.maxWindowMillis = maxWindowMillis;
+        this.maxQueue = maxQueue;
+        this.maxQueueWaitMillis = maxQueueWaitMillis;
+        this.clock = clock;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.windowMillis = initialWindowMillis;
+
+        Gauge.builder("employee.upstream.ratelimit.limit", this, AdaptiveRateLimiter::getLimit)
+                .description("Estimated number of requests the upstream admits before locking the client out")
+                .register(meterRegistry);
+        Gauge.builder("employee.upstream.ratelimit.window", this, limiter -> limiter.getWindowMillis() / 1000.0)
+                .description("Estimated upstream lockout window")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("employee.upstream.ratelimit.queued", this, AdaptiveRateLimiter::getWaiting)
+                .description("Requests held back until the next upstream budget cycle")
+                .register(meterRegistry);
+        this.admitted = outcome(meterRegistry, "admitted");
+        this.queued = outcome(meterRegistry, "queued");
+        this.shed = outcome(meterRegistry, "shed");
+        this.throttled = outcome(meterRegistry, "throttled");
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return Mono.defer(() -> {
+            Slot slot = reserve();
+            if (slot == null) {
+                return Mono.error(new ApiException(
+                        "Rate Limit Reached, try after some time", HttpStatus.TOO_MANY_REQUESTS));
+            }
+            if (slot.delayMillis() > 0) {
+                return Mono.delay(Duration.ofMillis(slot.delayMillis()))
+                        .doOnCancel(() -> release(slot))
+                        .then(Mono.defer(() -> release(slot) ? send(request, next, slot) : filter(request, next)));
+            }
+            return send(request, next, slot);
+        });
+    }
+
+    private Mono<ClientResponse> send(ClientRequest request, ExchangeFunction next, Slot slot) {
+        return next.exchange(request).doOnNext(response -> onResponse(slot, response.statusCode().value()));
+    }
+
+    /**
+     * Books the next free position in the budget. Returns {@code null} when the request should be shed.
+     */
+    synchronized Slot reserve() {
+        long now = clock.getAsLong();
+        if (cycleUsed >= budget()) {
+            // The cycle that follows a decrease does not probe upwards
+            if (!cycleThrottled) {
+                limit = Math.min(maxLimit, limit + INCREASE_STEP);
+            }
+            cycleStart = Math.max(cycleStart, lastSlotAt) + windowMillis;
+            cycleUsed = 0;
+            cycleThrottled = false;
+        }
+
+        long slotAt = Math.max(now, cycleStart);
+        long delay = slotAt - now;
+        if (delay > 0 && (waiting >= maxQueue || delay > maxQueueWaitMillis)) {
+            log.warn("Shedding upstream request: next budget slot is {}ms away with {} waiting", delay, waiting);
+            shed.increment();
+            return null;
+        }
+
+        Slot slot = new Slot(epoch, cycleUsed == 0 && cycleStart > 0, delay);
+        cycleUsed++;
+        lastSlotAt = slotAt;
+        if (delay > 0) {
+            waiting++;
+            queued.increment();
+        } else {
+            admitted.increment();
+        }
+        return slot;
+    }
+
+    /**
+     * Called when a queued slot comes due. Returns {@code false} if a 429 has reset the budget since the slot was
+     * booked, in which case the caller must book again.
+     */
+    synchronized boolean release(Slot slot) {
+        waiting--;
+        return slot.epoch() == epoch;
+    }
+
+    synchronized void onResponse(Slot slot, int status) {
+        if (status != HttpStatus.TOO_MANY_REQUESTS.value()) {
+            return;
+        }
+        throttled.increment();
+        if (slot.epoch() != epoch) {
+            // The budget was already reset by an earlier 429 from the same burst
+            return;
+        }
+
+        long now = clock.getAsLong();
+        if (slot.firstOfCycle()) {
+            windowMillis = Math.min(maxWindowMillis, (long) (windowMillis * WINDOW_GROWTH));
+        }
+        limit = Math.max(minLimit, limit * decreaseRatio);
+        epoch++;
+        cycleStart = now + windowMillis;
+        lastSlotAt = cycleStart;
+        cycleUsed = 0;
+        cycleThrottled = true;
+        log.warn(
+                "Upstream returned 429; limit estimate now {}, cooling down for {}ms",
+                String.format("%.2f", limit),
+                windowMillis);
+    }
+
+    public synchronized double getLimit() {
+        return limit;
+    }
+
+    public synchronized long getWindowMillis() {
+        return windowMillis;
+    }
+
+    public synchronized int getWaiting() {
+        return waiting;
+    }
+
+    private int budget() {
+        return (int) Math.max(1, Math.floor(limit));
+    }
+
+    private static Counter outcome(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("employee.upstream.ratelimit.requests")
+                .description("Upstream requests seen by the adaptive rate limiter")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    record Slot(long epoch, boolean firstOfCycle, long delayMillis) {}
+}
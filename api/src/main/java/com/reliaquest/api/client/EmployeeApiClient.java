@@ -0,0 +1,206 @@
+package com.reliaquest.api.client;
+
+import static com.reliaquest.api.constants.Constants.EMPLOYEE;
+import static com.reliaquest.api.constants.Constants.EMPLOYEE_BY_ID;
+
+import com.reliaquest.api.dto.EmployeeCreateRequest;
+import com.reliaquest.api.exception.ApiException;
+import com.reliaquest.api.model.ApiResponse;
+import com.reliaquest.api.model.EmployeeResponse;
+import com.reliaquest.api.model.GenericResponse;
+import com.reliaquest.api.store.Employee;
+import com.reliaquest.api.store.EmployeeInterner;
+import com.reliaquest.api.utils.RetryEngine;
+import com.reliaquest.api.utils.Utils;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking calls against the Mock Employee API. Every method returns a cold {@link Mono}; callers decide whether to
+ * block on it or compose it into a reactive pipeline. Each call carries the {@link RetryEngine} policy, so callers must
+ * not add retries of their own.
+ *
+ * <p>Every attempt passes through the {@code employeeApi} circuit breaker. While it is open, calls fail at once with
+ * {@link io.github.resilience4j.circuitbreaker.CallNotPermittedException}, which is not retried.
+ */
+@Slf4j
+@Component
+public class EmployeeApiClient {
+
+    public static final String CIRCUIT_BREAKER = "employeeApi";
+
+    private final WebClient webClient;
+    private final Utils utils;
+    private final RetryEngine retryEngine;
+    private final CircuitBreaker circuitBreaker;
+    private final EmployeeListDecoder listDecoder;
+    private final EmployeeInterner interner;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${server.api.url:http://localhost:8112/api/v1}")
+    private String serverBaseUrl;
+
+    public EmployeeApiClient(
+            WebClient webClient,
+            Utils utils,
+            RetryEngine retryEngine,
+            CircuitBreakerRegistry circuitBreakerRegistry,
+            EmployeeListDecoder listDecoder,
+            EmployeeInterner interner,
+            MeterRegistry meterRegistry) {
+        this.webClient = webClient;
+        this.utils = utils;
+        this.retryEngine = retryEngine;
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(CIRCUIT_BREAKER);
+        this.listDecoder = listDecoder;
+        this.interner = interner;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public Mono<List<Employee>> fetchAll() {
+        return call("fetchAll", () -> {
+            log.info("Fetching all employees from Mock Employee API");
+
+            String url = serverBaseUrl + EMPLOYEE;
+            WebClient.ResponseSpec responseSpec =
+                    utils.addExceptionHandling(webClient.get().uri(url).retrieve());
+
+            // Decoded while the body streams in, so the raw payload is never buffered whole
+            return listDecoder
+                    .decode(responseSpec.bodyToFlux(DataBuffer.class))
+                    .collectList()
+                    .doOnNext(employees -> {
+                        if (employees.isEmpty()) {
+                            log.warn("Empty response received while fetching all employees");
+                        }
+                    });
+        });
+    }
+
+    public Mono<Employee> fetchById(String id) {
+        return call("fetchById", () -> {
+            log.info("Fetching employee by ID: {} from Mock Employee API", id);
+
+            String url = serverBaseUrl + EMPLOYEE_BY_ID.replace(":id", id);
+            WebClient.ResponseSpec responseSpec =
+                    utils.addExceptionHandling(webClient.get().uri(url).retrieve());
+
+            return responseSpec
+                    .toEntity(EmployeeResponse.class)
+                    .flatMap(response -> Mono.justOrEmpty(response.getBody()).mapNotNull(EmployeeResponse::getData))
+                    .map(interner::intern)
+                    .doOnNext(employee -> log.info("Employee found with ID: {}", id))
+                    .switchIfEmpty(Mono.defer(() -> {
+                        log.error("Employee not found for ID: {}", id);
+                        return Mono.error(new ApiException("Employee not found for id " + id, HttpStatus.NOT_FOUND));
+                    }));
+        });
+    }
+
+    public Mono<Employee> create(EmployeeCreateRequest createRequest) {
+        return call("create", () -> {
+            log.info("Creating new employee: {}", createRequest.getName());
+
+            String url = serverBaseUrl + EMPLOYEE;
+            WebClient.ResponseSpec responseSpec = utils.addExceptionHandling(webClient
+                    .post()
+                    .uri(url)
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .bodyValue(createRequest)
+                    .retrieve());
+
+            return responseSpec
+                    .toEntity(EmployeeResponse.class)
+                    .flatMap(response -> Mono.justOrEmpty(response.getBody()).mapNotNull(EmployeeResponse::getData))
+                    .map(interner::intern)
+                    .doOnNext(created -> log.info("Employee created successfully: {}", created.name()))
+                    .switchIfEmpty(Mono.defer(() -> {
+                        log.error("Failed to create employee: {}", createRequest.getName());
+                        return Mono.error(
+                                new ApiException("Failed to create employee", HttpStatus.INTERNAL_SERVER_ERROR));
+                    }));
+        });
+    }
+
+    /**
+     * Deletes the employee by name (the Mock Employee API has no delete-by-id) and emits that name on success.
+     */
+    public Mono<String> deleteByName(String id, String name) {
+        return call("deleteByName", () -> {
+            log.info("Deleting employee {} (ID: {}) from Mock Employee API", name, id);
+
+            String url = serverBaseUrl + EMPLOYEE;
+            WebClient.ResponseSpec responseSpec = utils.addExceptionHandling(webClient
+                    .method(HttpMethod.DELETE)
+                    .uri(url)
+                    .bodyValue(Map.of("name", name))
+                    .retrieve());
+
+            return responseSpec
+                    .toEntity(GenericResponse.class)
+                    .flatMap(response -> {
+                        ApiResponse<String> body = response.getBody();
+                        if (HttpStatus.OK.equals(response.getStatusCode())
+                                && body != null
+                                && Boolean.parseBoolean(String.valueOf(body.getData()))) {
+                            log.info("Successfully deleted employee: {} (ID: {})", name, id);
+                            return Mono.just(name);
+                        }
+                        return Mono.error(deleteFailed(id, HttpStatus.valueOf(response.getStatusCode().value())));
+                    })
+                    .switchIfEmpty(Mono.error(() -> deleteFailed(id, HttpStatus.INTERNAL_SERVER_ERROR)));
+        });
+    }
+
+    private <T> Mono<T> call(String operation, Supplier<Mono<T>> attempt) {
+        return retryEngine.execute(
+                operation,
+                timed(operation, Mono.defer(attempt)).transformDeferred(CircuitBreakerOperator.of(circuitBreaker)));
+    }
+
+    /**
+     * Times each attempt that reaches the upstream. Calls rejected by the open circuit breaker are never subscribed,
+     * so they are not timed.
+     */
+    private <T> Mono<T> timed(String operation, Mono<T> attempt) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return attempt
+                    .doOnSuccess(value -> sample.stop(upstreamTimer(operation, "success")))
+                    .doOnError(e -> sample.stop(upstreamTimer(operation, Utils.statusTag(e))))
+                    .doOnCancel(() -> sample.stop(upstreamTimer(operation, "cancelled")));
+        });
+    }
+
+    private Timer upstreamTimer(String operation, String status) {
+        return Timer.builder("employee.upstream.requests")
+                .description("Latency of single upstream attempts, retries excluded")
+                .tag("operation", operation)
+                .tag("status", status)
+                .publishPercentileHistogram()
+                .maximumExpectedValue(Duration.ofMinutes(1))
+                .register(meterRegistry);
+    }
+
+    private ApiException deleteFailed(String id, HttpStatus status) {
+        log.error("Failed to delete employee with ID: {}", id);
+        return new ApiException("Failed to delete employee with id " + id, status);
+    }
+}
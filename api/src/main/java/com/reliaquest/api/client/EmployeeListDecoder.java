@@ -0,0 +1,154 @@
+package com.reliaquest.api.client;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.reliaquest.api.dto.EmployeeDTO;
+import com.reliaquest.api.exception.ApiException;
+import com.reliaquest.api.store.Employee;
+import com.reliaquest.api.store.EmployeeInterner;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+/**
+ * Decodes the list envelope of the Mock Employee API, {@code {"data": [...], "status": "..."}}, one employee at a time
+ * as the bytes arrive. Each network buffer is fed to Jackson's non-blocking parser and released straight away; only
+ * the tokens of the employee currently being read are held. Memory used for decoding therefore does not grow with the
+ * payload, and a body larger than {@code web-client.config.max-list-bytes} is rejected as soon as the limit is passed.
+ * Each employee is handed to the {@link EmployeeInterner} as soon as it is read.
+ */
+@Component
+@Slf4j
+public class EmployeeListDecoder {
+
+    private static final String DATA_FIELD = "data";
+
+    private final ObjectMapper objectMapper;
+    private final ObjectReader employeeReader;
+    private final EmployeeInterner interner;
+    private final long maxBytes;
+
+    public EmployeeListDecoder(
+            ObjectMapper objectMapper,
+            EmployeeInterner interner,
+            @Value("${web-client.config.max-list-bytes}") long maxBytes) {
+        this.objectMapper = objectMapper;
+        this.employeeReader = objectMapper.readerFor(EmployeeDTO.class);
+        this.interner = interner;
+        this.maxBytes = maxBytes;
+    }
+
+    public Flux<Employee> decode(Flux<DataBuffer> body) {
+        return Flux.defer(() -> {
+                    Tokenizer tokenizer = new Tokenizer();
+                    return body.concatMapIterable(tokenizer::feed)
+                            .concatWith(Flux.defer(() -> Flux.fromIterable(tokenizer.endOfInput())));
+                })
+                .doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+    }
+
+    /**
+     * Parser state for one response body. Only the elements of the top-level {@code data} array are decoded; every
+     * other field of the envelope is skipped.
+     */
+    private final class Tokenizer {
+
+        private final JsonParser parser;
+        private final ByteArrayFeeder feeder;
+        private long bytesRead;
+        private int depth;
+        private boolean dataNext;
+        private boolean inData;
+        private TokenBuffer element;
+        private int elementDepth;
+
+        Tokenizer() {
+            try {
+                this.parser = objectMapper.getFactory().createNonBlockingByteArrayParser();
+            } catch (IOException e) {
+                throw new DecodingException("Failed to create a parser for the employee list", e);
+            }
+            this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        }
+
+        List<Employee> feed(DataBuffer buffer) {
+            try {
+                int length = buffer.readableByteCount();
+                bytesRead += length;
+                if (bytesRead > maxBytes) {
+                    log.error("Employee list from upstream exceeds {} bytes; aborting the fetch", maxBytes);
+                    throw new ApiException(
+                            "Employee list from upstream exceeds " + maxBytes + " bytes", HttpStatus.BAD_GATEWAY);
+                }
+                byte[] bytes = new byte[length];
+                buffer.read(bytes);
+                feeder.feedInput(bytes, 0, length);
+                return drain();
+            } catch (IOException e) {
+                throw new DecodingException("Failed to decode the employee list", e);
+            } finally {
+                DataBufferUtils.release(buffer);
+            }
+        }
+
+        List<Employee> endOfInput() {
+            try {
+                feeder.endOfInput();
+                List<Employee> decoded = drain();
+                if (inData || element != null) {
+                    throw new DecodingException("Employee list ended inside the data array");
+                }
+                return decoded;
+            } catch (IOException e) {
+                throw new DecodingException("Failed to decode the employee list", e);
+            }
+        }
+
+        private List<Employee> drain() throws IOException {
+            List<Employee> decoded = new ArrayList<>();
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                if (element != null) {
+                    element.copyCurrentEvent(parser);
+                    if (token.isStructStart()) {
+                        elementDepth++;
+                    } else if (token.isStructEnd() && --elementDepth == 0) {
+                        decoded.add(interner.intern(employeeReader.<EmployeeDTO>readValue(element.asParser())));
+                        element = null;
+                    }
+                } else if (inData) {
+                    if (token == JsonToken.START_OBJECT) {
+                        element = new TokenBuffer(parser);
+                        element.copyCurrentEvent(parser);
+                        elementDepth = 1;
+                    } else if (token == JsonToken.END_ARRAY) {
+                        inData = false;
+                    }
+                } else if (dataNext && token == JsonToken.START_ARRAY) {
+                    dataNext = false;
+                    inData = true;
+                } else {
+                    dataNext = depth == 1 && token == JsonToken.FIELD_NAME && DATA_FIELD.equals(parser.currentName());
+                    if (token.isStructStart()) {
+                        depth++;
+                    } else if (token.isStructEnd()) {
+                        depth--;
+                    }
+                }
+            }
+            return decoded;
+        }
+    }
+}
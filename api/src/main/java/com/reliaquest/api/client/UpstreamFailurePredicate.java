@@ -0,0 +1,19 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.exception.ApiException;
+import java.util.function.Predicate;
+
+/**
+ * Decides which upstream errors count against the circuit breaker: throttling, server errors and transport failures.
+ * Client errors such as an unknown id or an invalid payload say nothing about upstream health.
+ */
+public class UpstreamFailurePredicate implements Predicate<Throwable> {
+
+    @Override
+    public boolean test(Throwable throwable) {
+        if (throwable instanceof ApiException e) {
+            return e.getStatus().value() == 429 || e.getStatus().is5xxServerError();
+        }
+        return true;
+    }
+}
@@ -1,5 +1,9 @@
 package com.reliaquest.api.config;
 
+import static com.reliaquest.api.constants.Constants.EMPLOYEE;
+import static com.reliaquest.api.constants.Constants.EMPLOYEE_BY_ID;
+
+import com.reliaquest.api.client.AdaptiveRateLimiter;
 import io.netty.channel.ChannelOption;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslContextBuilder;
@@ -14,17 +18,21 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
-import org.springframework.retry.annotation.EnableRetry;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 @Configuration
-@EnableRetry
 @EnableAspectJAutoProxy(exposeProxy = true)
+@EnableScheduling
 @Slf4j
 public class AppConfig {
 
+    private static final String UPSTREAM_POOL = "employee-api";
+
     @Value("${web-client.config.connection-timeout}")
     private int connectionTimeoutMillis;
 
@@ -37,8 +45,68 @@ public class AppConfig {
     @Value("${web-client.config.response-timeout}")
     private int responseTimeoutMillis;
 
+    @Value("${web-client.config.max-in-memory-size}")
+    private int maxInMemorySize;
+
+    @Value("${web-client.rate-limit.enabled}")
+    private boolean rateLimitEnabled;
+
+    @Value("${web-client.pool.max-connections}")
+    private int maxConnections;
+
+    @Value("${web-client.pool.pending-acquire-max-count}")
+    private int pendingAcquireMaxCount;
+
+    @Value("${web-client.pool.pending-acquire-timeout-ms}")
+    private long pendingAcquireTimeoutMillis;
+
+    @Value("${web-client.pool.max-idle-time-ms}")
+    private long maxIdleTimeMillis;
+
+    @Value("${web-client.pool.max-life-time-ms}")
+    private long maxLifeTimeMillis;
+
+    @Value("${web-client.pool.evict-in-background-ms}")
+    private long evictInBackgroundMillis;
+
+    @Value("${web-client.transport.compression}")
+    private boolean compression;
+
+    @Value("${web-client.transport.h2c}")
+    private boolean h2c;
+
+    @Value("${web-client.transport.metrics}")
+    private boolean transportMetrics;
+
+    /**
+     * Named pool shared by every upstream call. Keeping connections alive between calls avoids a TCP handshake per
+     * request; idle and lifetime limits retire connections the server may already have closed. With metrics on, the
+     * pool reports {@code reactor.netty.connection.provider.*} gauges, including pending acquires, to actuator.
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider upstreamConnectionProvider() {
+        log.info(
+                "Initializing upstream connection pool with maxConnections={}, pendingAcquireMaxCount={}, "
+                        + "maxIdleTime={}ms, maxLifeTime={}ms",
+                maxConnections,
+                pendingAcquireMaxCount,
+                maxIdleTimeMillis,
+                maxLifeTimeMillis);
+
+        return ConnectionProvider.builder(UPSTREAM_POOL)
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMillis))
+                .maxIdleTime(Duration.ofMillis(maxIdleTimeMillis))
+                .maxLifeTime(Duration.ofMillis(maxLifeTimeMillis))
+                .evictInBackground(Duration.ofMillis(evictInBackgroundMillis))
+                .metrics(transportMetrics)
+                .build();
+    }
+
     @Bean
-    public WebClient webClient() throws Exception {
+    public WebClient webClient(AdaptiveRateLimiter rateLimiter, ConnectionProvider upstreamConnectionProvider)
+            throws Exception {
         try {
             log.info(
                     "Initializing WebClient with connectionTimeout={}ms, readTimeout={}ms, writeTimeout={}ms, responseTimeout={}ms",
@@ -52,30 +120,54 @@ public class AppConfig {
                     .trustManager(InsecureTrustManagerFactory.INSTANCE)
                     .build();
 
-            // Configure WebClient exchange strategies (max in-memory size)
+            // Bounds the bodies that are decoded whole; the employee list is streamed by EmployeeListDecoder
             ExchangeStrategies strategies = ExchangeStrategies.builder()
-                    .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(-1))
+                    .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(maxInMemorySize))
                     .build();
 
-            // Configure Reactor Netty HttpClient with timeouts
-            HttpClient httpClient = HttpClient.create()
+            // Configure Reactor Netty HttpClient with timeouts on the shared pool
+            HttpClient httpClient = HttpClient.create(upstreamConnectionProvider)
                     .secure(spec -> spec.sslContext(sslContext))
                     .option(ChannelOption.SO_KEEPALIVE, true)
                     .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectionTimeoutMillis)
                     .responseTimeout(Duration.ofMillis(responseTimeoutMillis))
                     .doOnConnected(conn -> conn.addHandlerLast(
                                     new ReadTimeoutHandler(readTimeoutMillis, TimeUnit.MILLISECONDS))
-                            .addHandlerLast(new WriteTimeoutHandler(writeTimeoutMillis, TimeUnit.MILLISECONDS)));
+                            .addHandlerLast(new WriteTimeoutHandler(writeTimeoutMillis, TimeUnit.MILLISECONDS)))
+                    // Sends Accept-Encoding: gzip and inflates compressed responses as they stream in
+                    .compress(compression)
+                    .metrics(transportMetrics, AppConfig::uriTag);
+
+            // Upgrades cleartext connections to HTTP/2 when the server agrees, so calls multiplex over few connections
+            if (h2c) {
+                httpClient = httpClient.protocol(HttpProtocol.HTTP11, HttpProtocol.H2C);
+            }
 
             // Build WebClient
-            return WebClient.builder()
+            WebClient.Builder builder = WebClient.builder()
                     .exchangeStrategies(strategies)
-                    .clientConnector(new ReactorClientHttpConnector(httpClient))
-                    .build();
+                    .clientConnector(new ReactorClientHttpConnector(httpClient));
+
+            // Hold requests back client-side instead of running into the upstream lockout
+            if (rateLimitEnabled) {
+                builder.filter(rateLimiter);
+            }
+
+            return builder.build();
 
         } catch (Exception e) {
             log.error("Failed to create WebClient instance", e);
             throw e;
         }
     }
+
+    /**
+     * Collapses employee ids in request paths so that transport metrics get one {@code uri} tag per endpoint.
+     */
+    static String uriTag(String uri) {
+        int query = uri.indexOf('?');
+        String path = query < 0 ? uri : uri.substring(0, query);
+        int marker = path.indexOf(EMPLOYEE + "/");
+        return marker < 0 ? path : path.substring(0, marker) + EMPLOYEE_BY_ID;
+    }
 }
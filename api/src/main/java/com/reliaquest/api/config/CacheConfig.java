@@ -1,8 +1,12 @@
 package com.reliaquest.api.config;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.reliaquest.api.store.EmployeeSnapshot;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCache;
@@ -14,6 +18,10 @@ import org.springframework.context.annotation.Configuration;
 @EnableCaching
 public class CacheConfig {
 
+    @Value("${employees.snapshot.max-stale-ms}")
+    private long snapshotMaxStaleMillis;
+
+    // recordStats() feeds actuator's cache.gets, cache.puts, cache.evictions and cache.load meters, tagged by cache
     private Caffeine<Object, Object> buildHighCapacityCache() {
         return Caffeine.newBuilder().initialCapacity(1000).maximumSize(50_000L).recordStats();
     }
@@ -37,22 +45,45 @@ public class CacheConfig {
                         .expireAfterWrite(Duration.ofMinutes(30))
                         .build());
 
-        // Singleton caches
+        // Singleton cache holding the employee snapshot every aggregate is derived from. It is kept fresh by
+        // EmployeeSnapshotRefresher; the expiry only bounds staleness when background refreshes keep failing.
         CaffeineCache employeesAll = new CaffeineCache(
-                "employeesAll",
-                buildSingletonCache().expireAfterWrite(Duration.ofMinutes(5)).build());
-
-        CaffeineCache highestSalary = new CaffeineCache(
-                "highestSalary",
-                buildSingletonCache().expireAfterWrite(Duration.ofMinutes(5)).build());
-
-        CaffeineCache topTenNamesBySalary = new CaffeineCache(
-                "topTenNamesBySalary",
-                buildSingletonCache().expireAfterWrite(Duration.ofMinutes(5)).build());
+                "employeesAll", buildSingletonCache().expireAfter(snapshotExpiry()).build());
 
         SimpleCacheManager cacheManager = new SimpleCacheManager();
-        cacheManager.setCaches(List.of(employeeById, searchByName, employeesAll, highestSalary, topTenNamesBySalary));
+        cacheManager.setCaches(List.of(employeeById, searchByName, employeesAll));
 
         return cacheManager;
     }
+
+    /**
+     * Expires a snapshot {@code max-stale-ms} after it was fetched from upstream rather than after it was cached, so
+     * a snapshot restored from disk or patched by a local write does not start a fresh lifetime.
+     */
+    private Expiry<Object, Object> snapshotExpiry() {
+        return new Expiry<>() {
+            @Override
+            public long expireAfterCreate(Object key, Object value, long currentTime) {
+                return remainingNanos(value);
+            }
+
+            @Override
+            public long expireAfterUpdate(Object key, Object value, long currentTime, long currentDuration) {
+                return remainingNanos(value);
+            }
+
+            @Override
+            public long expireAfterRead(Object key, Object value, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+        };
+    }
+
+    private long remainingNanos(Object value) {
+        Duration remaining = Duration.ofMillis(snapshotMaxStaleMillis);
+        if (value instanceof EmployeeSnapshot snapshot) {
+            remaining = remaining.minus(Duration.between(snapshot.getLoadedAt(), Instant.now()));
+        }
+        return Math.max(0, remaining.toNanos());
+    }
 }
@@ -10,6 +10,23 @@ public class ApiDocsConstant {
     public static final String GET_ALL_EMPLOYEES_DESCRIPTION =
             "Returns the complete list of employees stored in the system";
 
+    public static final String STREAM_ALL_EMPLOYEES_SUMMARY = "Stream all employees";
+    public static final String STREAM_ALL_EMPLOYEES_DESCRIPTION =
+            "Writes employees as they are serialized: one per line for Accept: application/x-ndjson, or as a chunked"
+                    + " JSON array with stream=true";
+
+    public static final String PROJECT_EMPLOYEE_FIELDS_SUMMARY = "Retrieve employees with selected fields only";
+    public static final String PROJECT_EMPLOYEE_FIELDS_DESCRIPTION =
+            "Same as the endpoint without fields, but serializes only the comma-separated properties named in fields"
+                    + " (id, name, salary, age, title, email)";
+
+    public static final String GET_EMPLOYEE_PAGE_SUMMARY = "Retrieve one page of employees";
+    public static final String GET_EMPLOYEE_PAGE_DESCRIPTION =
+            "Returns up to limit employees ordered by id (default 100, at most 1000). Pass the returned nextCursor as"
+                    + " cursor to read the following page; nextCursor is null on the last page. Each page is read from"
+                    + " the current roster, whose version is returned, so employees created or deleted between pages"
+                    + " appear or drop out according to their id";
+
     public static final String SEARCH_EMPLOYEES_BY_NAME_SUMMARY = "Find employees by name";
     public static final String SEARCH_EMPLOYEES_BY_NAME_DESCRIPTION =
             "Returns employees whose names partially or fully match the input value";
@@ -26,10 +43,30 @@ public class ApiDocsConstant {
     public static final String GET_TOP_10_HIGHEST_EARNING_EMPLOYEES_DESCRIPTION =
             "Provides a list of the 10 employees earning the most, ordered by salary from high to low";
 
+    public static final String GET_TOP_EARNERS_SUMMARY = "Retrieve the k highest-paid employees";
+    public static final String GET_TOP_EARNERS_DESCRIPTION =
+            "Returns up to k employees (default 10, at most 1000) ordered by salary from high to low";
+
+    public static final String GET_SALARY_STATS_SUMMARY = "Retrieve salary distribution statistics";
+    public static final String GET_SALARY_STATS_DESCRIPTION =
+            "Returns count, min, max, mean, estimated p50/p90/p99 and per-band counts of employee salaries";
+
     public static final String CREATE_EMPLOYEE_SUMMARY = "Add a new employee";
     public static final String CREATE_EMPLOYEE_DESCRIPTION =
             "Creates and saves a new employee record into the system database";
 
+    public static final String CREATE_EMPLOYEES_SUMMARY = "Add many employees at once";
+    public static final String CREATE_EMPLOYEES_DESCRIPTION =
+            "Validates every employee before any is created, then creates them upstream several at a time and reports"
+                    + " a status per item in request order";
+
+    public static final String GET_EMPLOYEES_BY_IDS_SUMMARY = "Fetch several employees by ID";
+    public static final String GET_EMPLOYEES_BY_IDS_DESCRIPTION =
+            "Looks up to 1000 ids at once and reports a status per id: 200 with the employee, 404 if there is no such"
+                    + " employee, or the upstream error status if the roster could not be loaded. Ids missing from the"
+                    + " cached roster are checked against one fresh roster load, so a 404 is never older than the"
+                    + " request";
+
     public static final String DELETE_AN_EMPLOYEE_BY_ID_SUMMARY = "Remove an employee by ID";
     public static final String DELETES_AN_EMPLOYEE_BY_ID_DESCRIPTION =
             "Deletes the employee entry associated with the specified ID from the database";
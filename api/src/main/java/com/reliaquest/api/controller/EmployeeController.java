@@ -1,31 +1,49 @@
 package com.reliaquest.api.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.reliaquest.api.constants.ApiDocsConstant;
+import com.reliaquest.api.dto.EmployeeBatchRequest;
+import com.reliaquest.api.dto.EmployeeBulkCreateRequest;
 import com.reliaquest.api.dto.EmployeeCreateRequest;
+import com.reliaquest.api.dto.EmployeeCreateResultDTO;
 import com.reliaquest.api.dto.EmployeeDTO;
+import com.reliaquest.api.dto.EmployeeLookupDTO;
+import com.reliaquest.api.dto.EmployeePageDTO;
+import com.reliaquest.api.dto.SalaryStatsDTO;
 import com.reliaquest.api.exception.ApiException;
 import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.api.store.Employee;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import jakarta.servlet.http.HttpServletRequest;
 import java.util.List;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/v1/employee")
+@ConditionalOnProperty(name = "api.execution-mode", havingValue = "blocking", matchIfMissing = true)
 @Slf4j
 public class EmployeeController implements IEmployeeController<EmployeeDTO, EmployeeCreateRequest> {
 
     private final EmployeeService employeeService;
+    private final ObjectMapper objectMapper;
+    private final EmployeeProjections projections;
 
-    public EmployeeController(EmployeeService employeeService) {
+    public EmployeeController(EmployeeService employeeService, ObjectMapper objectMapper) {
         this.employeeService = employeeService;
+        this.objectMapper = objectMapper;
+        this.projections = new EmployeeProjections(objectMapper);
     }
 
     @Override
@@ -51,11 +69,94 @@ public class EmployeeController implements IEmployeeController<EmployeeDTO, Empl
     public ResponseEntity<List<EmployeeDTO>> getAllEmployees() {
         log.info("Received request: getAllEmployees");
 
-        List<EmployeeDTO> employeeDTOList = employeeService.fetchAll();
+        List<EmployeeDTO> employeeDTOList = Employee.toDtos(employeeService.fetchAll());
         log.debug("Fetched {} employees", employeeDTOList.size());
         return ResponseEntity.ok(employeeDTOList);
     }
 
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+            summary = ApiDocsConstant.STREAM_ALL_EMPLOYEES_SUMMARY,
+            description = ApiDocsConstant.STREAM_ALL_EMPLOYEES_DESCRIPTION)
+    @ApiResponse(
+            responseCode = "200",
+            description = "Success",
+            content =
+                    @Content(
+                            mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(implementation = EmployeeDTO.class)))
+    @ApiResponse(
+            responseCode = "429",
+            description = "Too Many Requests",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiException.class)))
+    @ApiResponse(
+            responseCode = "500",
+            description = "Internal Server Error",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiException.class)))
+    public ResponseEntity<StreamingResponseBody> streamAllEmployees(HttpServletRequest request) {
+        log.info("Received request: streamAllEmployees as NDJSON");
+
+        // Resolved before streaming starts, so upstream failures still map to an error status
+        List<Employee> employees = employeeService.fetchAll();
+        log.debug("Streaming {} employees", employees.size());
+        return EmployeeStreams.ndjson(objectMapper, employees, request);
+    }
+
+    @GetMapping(params = EmployeeStreams.STREAM_PARAM, produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = ApiDocsConstant.STREAM_ALL_EMPLOYEES_SUMMARY,
+            description = ApiDocsConstant.STREAM_ALL_EMPLOYEES_DESCRIPTION)
+    public ResponseEntity<StreamingResponseBody> streamAllEmployeesAsArray(HttpServletRequest request) {
+        log.info("Received request: streamAllEmployees as a JSON array");
+
+        List<Employee> employees = employeeService.fetchAll();
+        log.debug("Streaming {} employees", employees.size());
+        return EmployeeStreams.jsonArray(objectMapper, employees, request);
+    }
+
+    @GetMapping(params = EmployeeProjections.FIELDS_PARAM)
+    @Operation(
+            summary = ApiDocsConstant.PROJECT_EMPLOYEE_FIELDS_SUMMARY,
+            description = ApiDocsConstant.PROJECT_EMPLOYEE_FIELDS_DESCRIPTION)
+    public ResponseEntity<byte[]> getAllEmployees(@RequestParam String fields) {
+        log.info("Received request: getAllEmployees with fields={}", fields);
+        ObjectWriter writer = projections.writerFor(fields);
+
+        List<EmployeeDTO> employeeDTOList = Employee.toDtos(employeeService.fetchAll());
+        log.debug("Fetched {} employees", employeeDTOList.size());
+        return EmployeeProjections.response(writer, employeeDTOList);
+    }
+
+    @GetMapping("/page")
+    @Operation(
+            summary = ApiDocsConstant.GET_EMPLOYEE_PAGE_SUMMARY,
+            description = ApiDocsConstant.GET_EMPLOYEE_PAGE_DESCRIPTION)
+    @ApiResponse(
+            responseCode = "200",
+            description = "Success",
+            content =
+                    @Content(mediaType = "application/json", schema = @Schema(implementation = EmployeePageDTO.class)))
+    @ApiResponse(
+            responseCode = "400",
+            description = "Bad Request",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiException.class)))
+    @ApiResponse(
+            responseCode = "429",
+            description = "Too Many Requests",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiException.class)))
+    @ApiResponse(
+            responseCode = "500",
+            description = "Internal Server Error",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiException.class)))
+    public ResponseEntity<EmployeePageDTO> getEmployeePage(
+            @RequestParam(required = false) String cursor, @RequestParam(required = false) Integer limit) {
+        log.info("Received request: getEmployeePage with limit={}", limit);
+
+        EmployeePageDTO page = employeeService.getPage(cursor, limit);
+        log.debug("Returning {} employees from snapshot v{}", page.employees().size(), page.version());
+        return ResponseEntity.ok(page);
+    }
+
     @Override
     @GetMapping("/search/{name}")
     @Operation(
@@ -79,11 +180,24 @@ public class EmployeeController implements IEmployeeController<EmployeeDTO, Empl
     public ResponseEntity<List<EmployeeDTO>> getEmployeesByNameSearch(@PathVariable String name) {
         log.info("Received request: getEmployeesByNameSearch with name={}", name);
 
-        List<EmployeeDTO> employeeDTOList = employeeService.searchByName(name);
+        List<EmployeeDTO> employeeDTOList = Employee.toDtos(employeeService.searchByName(name));
         log.debug("Found {} employees matching name '{}'", employeeDTOList.size(), name);
         return ResponseEntity.ok(employeeDTOList);
     }
 
+    @GetMapping(value = "/search/{name}", params = EmployeeProjections.FIELDS_PARAM)
+    @Operation(
+            summary = ApiDocsConstant.PROJECT_EMPLOYEE_FIELDS_SUMMARY,
+            description = ApiDocsConstant.PROJECT_EMPLOYEE_FIELDS_DESCRIPTION)
+    public ResponseEntity<byte[]> getEmployeesByNameSearch(@PathVariable String name, @RequestParam String fields) {
+        log.info("Received request: getEmployeesByNameSearch with name={} and fields={}", name, fields);
+        ObjectWriter writer = projections.writerFor(fields);
+
+        List<EmployeeDTO> employeeDTOList = Employee.toDtos(employeeService.searchByName(name));
+        log.debug("Found {} employees matching name '{}'", employeeDTOList.size(), name);
+        return EmployeeProjections.response(writer, employeeDTOList);
+    }
+
     @Override
     @GetMapping("/{id}")
     @Operation(
@@ -108,11 +222,24 @@ public class EmployeeController implements IEmployeeController<EmployeeDTO, Empl
     public ResponseEntity<EmployeeDTO> getEmployeeById(@PathVariable String id) {
         log.info("Received request: getEmployeeById with id={}", id);
 
-        EmployeeDTO employeeDTO = employeeService.fetchById(id);
+        EmployeeDTO employeeDTO = employeeService.fetchById(id).toDto();
         log.debug("Fetched employee: {}", employeeDTO);
         return ResponseEntity.ok(employeeDTO);
     }
 
+    @GetMapping(value = "/{id}", params = EmployeeProjections.FIELDS_PARAM)
+    @Operation(
+            summary = ApiDocsConstant.PROJECT_EMPLOYEE_FIELDS_SUMMARY,
+            description = ApiDocsConstant.PROJECT_EMPLOYEE_FIELDS_DESCRIPTION)
+    public ResponseEntity<byte[]> getEmployeeById(@PathVariable String id, @RequestParam String fields) {
+        log.info("Received request: getEmployeeById with id={} and fields={}", id, fields);
+        ObjectWriter writer = projections.writerFor(fields);
+
+        EmployeeDTO employeeDTO = employeeService.fetchById(id).toDto();
+        log.debug("Fetched employee: {}", employeeDTO);
+        return EmployeeProjections.response(writer, employeeDTO);
+    }
+
     @Override
     @GetMapping("/highestSalary")
     @Operation(
@@ -138,6 +265,30 @@ public class EmployeeController implements IEmployeeController<EmployeeDTO, Empl
         return ResponseEntity.ok(highestSalary);
     }
 
+    @GetMapping("/salaryStats")
+    @Operation(
+            summary = ApiDocsConstant.GET_SALARY_STATS_SUMMARY,
+            description = ApiDocsConstant.GET_SALARY_STATS_DESCRIPTION)
+    @ApiResponse(
+            responseCode = "200",
+            description = "Success",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = SalaryStatsDTO.class)))
+    @ApiResponse(
+            responseCode = "429",
+            description = "Too Many Requests",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiException.class)))
+    @ApiResponse(
+            responseCode = "500",
+            description = "Internal Server Error",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiException.class)))
+    public ResponseEntity<SalaryStatsDTO> getSalaryStats() {
+        log.info("Received request: getSalaryStats");
+
+        SalaryStatsDTO salaryStats = employeeService.getSalaryStats();
+        log.debug("Salary statistics over {} employees", salaryStats.count());
+        return ResponseEntity.ok(salaryStats);
+    }
+
     @Override
     @GetMapping("/topTenHighestEarningEmployeeNames")
     @Operation(
@@ -166,6 +317,37 @@ public class EmployeeController implements IEmployeeController<EmployeeDTO, Empl
         return ResponseEntity.ok(topTenEmployeeNames);
     }
 
+    @GetMapping("/topEarners")
+    @Operation(
+            summary = ApiDocsConstant.GET_TOP_EARNERS_SUMMARY,
+            description = ApiDocsConstant.GET_TOP_EARNERS_DESCRIPTION)
+    @ApiResponse(
+            responseCode = "200",
+            description = "Success",
+            content =
+                    @Content(
+                            mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = EmployeeDTO.class))))
+    @ApiResponse(
+            responseCode = "400",
+            description = "Bad Request",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiException.class)))
+    @ApiResponse(
+            responseCode = "429",
+            description = "Too Many Requests",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiException.class)))
+    @ApiResponse(
+            responseCode = "500",
+            description = "Internal Server Error",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiException.class)))
+    public ResponseEntity<List<EmployeeDTO>> getTopEarners(@RequestParam(defaultValue = "10") int k) {
+        log.info("Received request: getTopEarners with k={}", k);
+
+        List<EmployeeDTO> topEarners = Employee.toDtos(employeeService.getTopEarners(k));
+        log.debug("Top {} earners: {}", k, topEarners.size());
+        return ResponseEntity.ok(topEarners);
+    }
+
     @Override
     @PostMapping
     @Operation(
@@ -198,7 +380,61 @@ public class EmployeeController implements IEmployeeController<EmployeeDTO, Empl
     public ResponseEntity<EmployeeDTO> createEmployee(
             @Validated @RequestBody EmployeeCreateRequest employeeCreateRequest) {
         log.info("Received request: createEmployee with payload={}", employeeCreateRequest);
-        return ResponseEntity.status(HttpStatus.CREATED).body(employeeService.create(employeeCreateRequest));
+        return ResponseEntity.status(HttpStatus.CREATED).body(employeeService.create(employeeCreateRequest).toDto());
+    }
+
+    @PostMapping("/bulk")
+    @Operation(
+            summary = ApiDocsConstant.CREATE_EMPLOYEES_SUMMARY,
+            description = ApiDocsConstant.CREATE_EMPLOYEES_DESCRIPTION)
+    @ApiResponse(
+            responseCode = "200",
+            description = "Success",
+            content =
+                    @Content(
+                            mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = EmployeeCreateResultDTO.class))))
+    @ApiResponse(
+            responseCode = "400",
+            description = "Bad Request",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiException.class)))
+    @ApiResponse(
+            responseCode = "500",
+            description = "Internal Server Error",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiException.class)))
+    public ResponseEntity<List<EmployeeCreateResultDTO>> createEmployees(
+            @Validated @RequestBody EmployeeBulkCreateRequest bulkCreateRequest) {
+        log.info("Received request: createEmployees for {} employees", bulkCreateRequest.getEmployees().size());
+
+        List<EmployeeCreateResultDTO> results = employeeService.createAll(bulkCreateRequest.getEmployees());
+        return ResponseEntity.ok(results);
+    }
+
+    @PostMapping("/batch")
+    @Operation(
+            summary = ApiDocsConstant.GET_EMPLOYEES_BY_IDS_SUMMARY,
+            description = ApiDocsConstant.GET_EMPLOYEES_BY_IDS_DESCRIPTION)
+    @ApiResponse(
+            responseCode = "200",
+            description = "Success",
+            content =
+                    @Content(
+                            mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = EmployeeLookupDTO.class))))
+    @ApiResponse(
+            responseCode = "400",
+            description = "Bad Request",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiException.class)))
+    @ApiResponse(
+            responseCode = "500",
+            description = "Internal Server Error",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiException.class)))
+    public ResponseEntity<List<EmployeeLookupDTO>> getEmployeesByIds(
+            @Validated @RequestBody EmployeeBatchRequest batchRequest) {
+        log.info("Received request: getEmployeesByIds for {} ids", batchRequest.getIds().size());
+
+        List<EmployeeLookupDTO> lookups = employeeService.fetchByIds(batchRequest.getIds());
+        return ResponseEntity.ok(lookups);
     }
 
     @Override
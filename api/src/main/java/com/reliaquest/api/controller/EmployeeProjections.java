@@ -0,0 +1,103 @@
+package com.reliaquest.api.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.reliaquest.api.dto.EmployeeDTO;
+import com.reliaquest.api.exception.ApiException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Serializes employees with only the properties named in {@code fields=}. Each distinct projection gets its own
+ * {@link ObjectWriter}, whose {@link EmployeeDTO} serializer is built with just those properties. Serializing a
+ * projected response therefore costs no more than the full one, minus the omitted fields. The writer is built on the
+ * first request and reused afterwards.
+ *
+ * <p>Field names must be properties of {@link EmployeeDTO}, so at most one writer exists per subset of them.
+ */
+final class EmployeeProjections {
+
+    static final String FIELDS_PARAM = "fields";
+
+    private final ObjectMapper objectMapper;
+    private final Set<String> knownFields;
+    private final Map<Set<String>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+    EmployeeProjections(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        SerializationConfig config = objectMapper.getSerializationConfig();
+        Set<String> fields = new TreeSet<>();
+        for (BeanPropertyDefinition property :
+                config.introspect(config.constructType(EmployeeDTO.class)).findProperties()) {
+            fields.add(property.getName());
+        }
+        this.knownFields = Collections.unmodifiableSet(fields);
+    }
+
+    /**
+     * Validates {@code fields} before any data is loaded and returns the writer for that projection.
+     */
+    ObjectWriter writerFor(String fields) {
+        Set<String> projection = new TreeSet<>();
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!knownFields.contains(name)) {
+                throw new ApiException(
+                        "Unknown field '" + name + "'; expected any of " + knownFields, HttpStatus.BAD_REQUEST);
+            }
+            projection.add(name);
+        }
+        if (projection.isEmpty()) {
+            throw new ApiException("fields must name at least one of " + knownFields, HttpStatus.BAD_REQUEST);
+        }
+        return writers.computeIfAbsent(Set.copyOf(projection), this::compile);
+    }
+
+    static ResponseEntity<byte[]> response(ObjectWriter writer, Object body) {
+        try {
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(writer.writeValueAsBytes(body));
+        } catch (JsonProcessingException e) {
+            throw new ApiException("Failed to serialize employees", HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private ObjectWriter compile(Set<String> projection) {
+        SimpleModule module = new SimpleModule("employee-projection");
+        module.setSerializerModifier(new BeanSerializerModifier() {
+            @Override
+            public List<BeanPropertyWriter> changeProperties(
+                    SerializationConfig config, BeanDescription description, List<BeanPropertyWriter> properties) {
+                if (description.getBeanClass() != EmployeeDTO.class) {
+                    return properties;
+                }
+                List<BeanPropertyWriter> projected = new ArrayList<>(projection.size());
+                for (BeanPropertyWriter property : properties) {
+                    if (projection.contains(property.getName())) {
+                        projected.add(property);
+                    }
+                }
+                return projected;
+            }
+        });
+        // A private copy so the projected serializer never lands in the shared mapper's cache
+        return objectMapper.copy().registerModule(module).writer();
+    }
+}
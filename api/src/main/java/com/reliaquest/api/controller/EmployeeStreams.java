@@ -0,0 +1,73 @@
+package com.reliaquest.api.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.reliaquest.api.dto.EmployeeDTO;
+import com.reliaquest.api.store.Employee;
+import com.reliaquest.api.utils.StaleResponses;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Writes the roster one employee at a time, so a large response is never held as a single serialized body. The
+ * generator hands bytes to the servlet response whenever its buffer fills, and the container sends them as chunks.
+ * Each employee is mapped to its {@link EmployeeDTO} only as it is written.
+ *
+ * <p>NDJSON puts each employee on its own line. The array form writes exactly the bytes of the buffered endpoint.
+ */
+final class EmployeeStreams {
+
+    static final String STREAM_PARAM = "stream=true";
+
+    private EmployeeStreams() {}
+
+    static ResponseEntity<StreamingResponseBody> ndjson(
+            ObjectMapper objectMapper, List<Employee> employees, HttpServletRequest request) {
+        return response(MediaType.APPLICATION_NDJSON, request, out -> write(objectMapper, employees, out, false));
+    }
+
+    static ResponseEntity<StreamingResponseBody> jsonArray(
+            ObjectMapper objectMapper, List<Employee> employees, HttpServletRequest request) {
+        return response(MediaType.APPLICATION_JSON, request, out -> write(objectMapper, employees, out, true));
+    }
+
+    private static ResponseEntity<StreamingResponseBody> response(
+            MediaType contentType, HttpServletRequest request, StreamingResponseBody body) {
+        // The body is written outside the message converters, so StaleResponseAdvice does not see it
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(contentType);
+        StaleResponses.loadedAt(request).ifPresent(loadedAt -> StaleResponseAdvice.addStaleHeaders(headers, loadedAt));
+        return ResponseEntity.ok().headers(headers).body(body);
+    }
+
+    private static void write(ObjectMapper objectMapper, List<Employee> employees, OutputStream out, boolean array)
+            throws IOException {
+        // Flushing after every record would turn each one into its own chunk
+        ObjectWriter writer =
+                objectMapper.writerFor(EmployeeDTO.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            if (array) {
+                generator.writeStartArray();
+            }
+            for (Employee employee : employees) {
+                writer.writeValue(generator, employee.toDto());
+                if (!array) {
+                    generator.writeRaw('\n');
+                }
+            }
+            if (array) {
+                generator.writeEndArray();
+            }
+        }
+    }
+}
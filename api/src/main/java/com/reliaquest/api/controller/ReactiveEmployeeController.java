@@ -0,0 +1,475 @@
+package com.reliaquest.api.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.reliaquest.api.constants.ApiDocsConstant;
+import com.reliaquest.api.dto.EmployeeBatchRequest;
+import com.reliaquest.api.dto.EmployeeBulkCreateRequest;
+import com.reliaquest.api.dto.EmployeeCreateRequest;
+import com.reliaquest.api.dto.EmployeeCreateResultDTO;
+import com.reliaquest.api.dto.EmployeeDTO;
+import com.reliaquest.api.dto.EmployeeLookupDTO;
+import com.reliaquest.api.dto.EmployeePageDTO;
+import com.reliaquest.api.dto.SalaryStatsDTO;
+import com.reliaquest.api.exception.ApiException;
+import com.reliaquest.api.service.ReactiveEmployeeService;
+import com.reliaquest.api.store.Employee;
+import com.reliaquest.api.utils.StaleResponses;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.publisher.Mono;
+
+/**
+ * Serves the {@link IEmployeeController} endpoints with the same paths, JSON shapes and OpenAPI docs, but hands Spring
+ * MVC a {@link Mono} so the servlet thread is released while upstream calls and retry backoffs are pending. Enabled
+ * with {@code api.execution-mode=reactive}, in which case {@link EmployeeController} is not registered.
+ */
+@RestController
+@RequestMapping("/api/v1/employee")
+@ConditionalOnProperty(name = "api.execution-mode", havingValue = "reactive")
+@Slf4j
+public class ReactiveEmployeeController implements IReactiveEmployeeController<EmployeeDTO, EmployeeCreateRequest> {
+
+    private final ReactiveEmployeeService employeeService;
+    private final ObjectMapper objectMapper;
+    private final EmployeeProjections projections;
+
+    public ReactiveEmployeeController(ReactiveEmployeeService employeeService, ObjectMapper objectMapper) {
+        this.employeeService = employeeService;
+        this.objectMapper = objectMapper;
+        this.projections = new EmployeeProjections(objectMapper);
+    }
+
+    @Override
+    @GetMapping
+    @Operation(
+            summary = ApiDocsConstant.GET_ALL_EMPLOYEES_SUMMARY,
+            description = ApiDocsConstant.GET_ALL_EMPLOYEES_DESCRIPTION)
+    @ApiResponse(
+            responseCode = "200",
+            description = "Success",
+            content =
+                    @Content(
+                            mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = EmployeeDTO.class))))
+    @ApiResponse(
+            responseCode = "429",
+            description = "Too Many Requests",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiException.class)))
+    @ApiResponse(
+            responseCode = "500",
+            description = "Internal Server Error",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiException.class)))
+    public Mono<ResponseEntity<List<EmployeeDTO>>> getAllEmployees() {
+        log.info("Received request: getAllEmployees");
+        return employeeService
+                .fetchAll()
+                .map(Employee::toDtos)
+                .map(ResponseEntity::ok)
+                .contextWrite(StaleResponses.bindRequest());
+    }
+
+    @GetMapping(params = EmployeeProjections.FIELDS_PARAM)
+    @Operation(
+            summary = ApiDocsConstant.PROJECT_EMPLOYEE_FIELDS_SUMMARY,
+            description = ApiDocsConstant.PROJECT_EMPLOYEE_FIELDS_DESCRIPTION)
+    public Mono<ResponseEntity<byte[]>> getAllEmployees(@RequestParam String fields) {
+        log.info("Received request: getAllEmployees with fields={}", fields);
+        ObjectWriter writer = projections.writerFor(fields);
+        return employeeService
+                .fetchAll()
+                .map(employees -> EmployeeProjections.response(writer, employees))
+                .contextWrite(StaleResponses.bindRequest());
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+            summary = ApiDocsConstant.STREAM_ALL_EMPLOYEES_SUMMARY,
+            description = ApiDocsConstant.STREAM_ALL_EMPLOYEES_DESCRIPTION)
+    @ApiResponse(
+            responseCode = "200",
+            description = "Success",
+            content =
+                    @Content(
+                            mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(implementation = EmployeeDTO.class)))
+    @ApiResponse(
+            responseCode = "429",
+            description = "Too Many Requests",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiException.class)))
+    @ApiResponse(
+            responseCode = "500",
+            description = "Internal Server Error",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiException.class)))
+    public Mono<ResponseEntity<StreamingResponseBody>> streamAllEmployees(HttpServletRequest request) {
+        log.info("Received request: streamAllEmployees as NDJSON");
+        return employeeService
+                .fetchAll()
+                .map(employees -> EmployeeStreams.ndjson(objectMapper, employees, request))
+                .contextWrite(StaleResponses.bindRequest());
+    }
+
+    @GetMapping(params = EmployeeStreams.STREAM_PARAM, produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = ApiDocsConstant.STREAM_ALL_EMPLOYEES_SUMMARY,
+            description = ApiDocsConstant.STREAM_ALL_EMPLOYEES_DESCRIPTION)
+    public Mono<ResponseEntity<StreamingResponseBody>> streamAllEmployeesAsArray(HttpServletRequest request) {
+        log.info("Received request: streamAllEmployees as a JSON array");
+        return employeeService
+                .fetchAll()
+                .map(employees -> EmployeeStreams.jsonArray(objectMapper, employees, request))
+                .contextWrite(StaleResponses.bindRequest());
+    }
+
+    @GetMapping("/page")
+    @Operation(
+            summary = ApiDocsConstant.GET_EMPLOYEE_PAGE_SUMMARY,
+            description = ApiDocsConstant.GET_EMPLOYEE_PAGE_DESCRIPTION)
+    @ApiResponse(
+            responseCode = "200",
+            description = "Success",
+            content =
+                    @Content(mediaType = "application/json", schema = @Schema(implementation = EmployeePageDTO.class)))
+    @ApiResponse(
+            responseCode = "400",
+            description = "Bad Request",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiException.class)))
+    @ApiResponse(
+            responseCode = "429",
+            description = "Too Many Requests",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiException.class)))
+    @ApiResponse(
+            responseCode = "500",
+            description = "Internal Server Error",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiException.class)))
+    public Mono<ResponseEntity<EmployeePageDTO>> getEmployeePage(
+            @RequestParam(required = false) String cursor, @RequestParam(required = false) Integer limit) {
+        log.info("Received request: getEmployeePage with limit={}", limit);
+        return employeeService
+                .getPage(cursor, limit)
+                .map(ResponseEntity::ok)
+                .contextWrite(StaleResponses.bindRequest());
+    }
+
+    @Override
+    @GetMapping("/search/{name}")
+    @Operation(
+            summary = ApiDocsConstant.SEARCH_EMPLOYEES_BY_NAME_SUMMARY,
+            description = ApiDocsConstant.SEARCH_EMPLOYEES_BY_NAME_DESCRIPTION)
+    @ApiResponse(
+            responseCode = "200",
+            description = "Success",
+            content =
+                    @Content(
+                            mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = EmployeeDTO.class))))
+    @ApiResponse(
+            responseCode = "429",
+            description = "Too Many Requests",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiException.class)))
+    @ApiResponse(
+            responseCode = "500",
+            description = "Internal Server Error",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiException.class)))
+    public Mono<ResponseEntity<List<EmployeeDTO>>> getEmployeesByNameSearch(@PathVariable String name) {
+        log.info("Received request: getEmployeesByNameSearch with name={}", name);
+        return employeeService
+                .searchByName(name)
+                .map(Employee::toDtos)
+                .map(ResponseEntity::ok)
+                .contextWrite(StaleResponses.bindRequest());
+    }
+
+    @GetMapping(value = "/search/{name}", params = EmployeeProjections.FIELDS_PARAM)
+    @Operation(
+            summary = ApiDocsConstant.PROJECT_EMPLOYEE_FIELDS_SUMMARY,
+            description = ApiDocsConstant.PROJECT_EMPLOYEE_FIELDS_DESCRIPTION)
+    public Mono<ResponseEntity<byte[]>> getEmployeesByNameSearch(
+            @PathVariable String name, @RequestParam String fields) {
+        log.info("Received request: getEmployeesByNameSearch with name={} and fields={}", name, fields);
+        ObjectWriter writer = projections.writerFor(fields);
+        return employeeService
+                .searchByName(name)
+                .map(employees -> EmployeeProjections.response(writer, employees))
+                .contextWrite(StaleResponses.bindRequest());
+    }
+
+    @Override
+    @GetMapping("/{id}")
+    @Operation(
+            summary = ApiDocsConstant.GET_EMPLOYEE_BY_ID_SUMMARY,
+            description = ApiDocsConstant.GET_EMPLOYEE_BY_ID_DESCRIPTION)
+    @ApiResponse(
+            responseCode = "200",
+            description = "Success",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = EmployeeDTO.class)))
+    @ApiResponse(
+            responseCode = "429",
+            description = "Too Many Requests",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiException.class)))
+    @ApiResponse(
+            responseCode = "404",
+            description = "Employee Not Found",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiException.class)))
+    @ApiResponse(
+            responseCode = "500",
+            description = "Internal Server Error",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiException.class)))
+    public Mono<ResponseEntity<EmployeeDTO>> getEmployeeById(@PathVariable String id) {
+        log.info("Received request: getEmployeeById with id={}", id);
+        return employeeService
+                .fetchById(id)
+                .map(Employee::toDto)
+                .map(ResponseEntity::ok)
+                .contextWrite(StaleResponses.bindRequest());
+    }
+
+    @GetMapping(value = "/{id}", params = EmployeeProjections.FIELDS_PARAM)
+    @Operation(
+            summary = ApiDocsConstant.PROJECT_EMPLOYEE_FIELDS_SUMMARY,
+            description = ApiDocsConstant.PROJECT_EMPLOYEE_FIELDS_DESCRIPTION)
+    public Mono<ResponseEntity<byte[]>> getEmployeeById(@PathVariable String id, @RequestParam String fields) {
+        log.info("Received request: getEmployeeById with id={} and fields={}", id, fields);
+        ObjectWriter writer = projections.writerFor(fields);
+        return employeeService
+                .fetchById(id)
+                .map(employee -> EmployeeProjections.response(writer, employee))
+                .contextWrite(StaleResponses.bindRequest());
+    }
+
+    @Override
+    @GetMapping("/highestSalary")
+    @Operation(
+            summary = ApiDocsConstant.GET_HIGHEST_SALARY_SUMMARY,
+            description = ApiDocsConstant.GET_HIGHEST_SALARY_DESCRIPTION)
+    @ApiResponse(
+            responseCode = "200",
+            description = "Success",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = Integer.class)))
+    @ApiResponse(
+            responseCode = "429",
+            description = "Too Many Requests",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiException.class)))
+    @ApiResponse(
+            responseCode = "500",
+            description = "Internal Server Error",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiException.class)))
+    public Mono<ResponseEntity<Integer>> getHighestSalaryOfEmployees() {
+        log.info("Received request: getHighestSalaryOfEmployees");
+        return employeeService.getHighestSalary().map(ResponseEntity::ok).contextWrite(StaleResponses.bindRequest());
+    }
+
+    @GetMapping("/salaryStats")
+    @Operation(
+            summary = ApiDocsConstant.GET_SALARY_STATS_SUMMARY,
+            description = ApiDocsConstant.GET_SALARY_STATS_DESCRIPTION)
+    @ApiResponse(
+            responseCode = "200",
+            description = "Success",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = SalaryStatsDTO.class)))
+    @ApiResponse(
+            responseCode = "429",
+            description = "Too Many Requests",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiException.class)))
+    @ApiResponse(
+            responseCode = "500",
+            description = "Internal Server Error",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiException.class)))
+    public Mono<ResponseEntity<SalaryStatsDTO>> getSalaryStats() {
+        log.info("Received request: getSalaryStats");
+        return employeeService.getSalaryStats().map(ResponseEntity::ok).contextWrite(StaleResponses.bindRequest());
+    }
+
+    @Override
+    @GetMapping("/topTenHighestEarningEmployeeNames")
+    @Operation(
+            summary = ApiDocsConstant.GET_TOP_10_HIGHEST_EARNING_EMPLOYEES_SUMMARY,
+            description = ApiDocsConstant.GET_TOP_10_HIGHEST_EARNING_EMPLOYEES_DESCRIPTION)
+    @ApiResponse(
+            responseCode = "200",
+            description = "Success",
+            content =
+                    @Content(
+                            mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = String.class))))
+    @ApiResponse(
+            responseCode = "429",
+            description = "Too Many Requests",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiException.class)))
+    @ApiResponse(
+            responseCode = "500",
+            description = "Internal Server Error",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiException.class)))
+    public Mono<ResponseEntity<List<String>>> getTopTenHighestEarningEmployeeNames() {
+        log.info("Received request: getTopTenHighestEarningEmployeeNames");
+        return employeeService
+                .getTopTenEmployeeNamesBySalary()
+                .map(ResponseEntity::ok)
+                .contextWrite(StaleResponses.bindRequest());
+    }
+
+    @GetMapping("/topEarners")
+    @Operation(
+            summary = ApiDocsConstant.GET_TOP_EARNERS_SUMMARY,
+            description = ApiDocsConstant.GET_TOP_EARNERS_DESCRIPTION)
+    @ApiResponse(
+            responseCode = "200",
+            description = "Success",
+            content =
+                    @Content(
+                            mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = EmployeeDTO.class))))
+    @ApiResponse(
+            responseCode = "400",
+            description = "Bad Request",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiException.class)))
+    @ApiResponse(
+            responseCode = "429",
+            description = "Too Many Requests",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiException.class)))
+    @ApiResponse(
+            responseCode = "500",
+            description = "Internal Server Error",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiException.class)))
+    public Mono<ResponseEntity<List<EmployeeDTO>>> getTopEarners(@RequestParam(defaultValue = "10") int k) {
+        log.info("Received request: getTopEarners with k={}", k);
+        return employeeService
+                .getTopEarners(k)
+                .map(Employee::toDtos)
+                .map(ResponseEntity::ok)
+                .contextWrite(StaleResponses.bindRequest());
+    }
+
+    @Override
+    @PostMapping
+    @Operation(
+            summary = ApiDocsConstant.CREATE_EMPLOYEE_SUMMARY,
+            description = ApiDocsConstant.CREATE_EMPLOYEE_DESCRIPTION,
+            requestBody =
+                    @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                            description = "Employee creation request payload",
+                            required = true,
+                            content =
+                                    @Content(
+                                            mediaType = "application/json",
+                                            schema = @Schema(implementation = EmployeeCreateRequest.class))))
+    @ApiResponse(
+            responseCode = "201",
+            description = "Employee Created Successfully",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = EmployeeDTO.class)))
+    @ApiResponse(
+            responseCode = "400",
+            description = "Bad Request",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiException.class)))
+    @ApiResponse(
+            responseCode = "429",
+            description = "Too Many Requests",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiException.class)))
+    @ApiResponse(
+            responseCode = "500",
+            description = "Internal Server Error",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiException.class)))
+    public Mono<ResponseEntity<EmployeeDTO>> createEmployee(
+            @Validated @RequestBody EmployeeCreateRequest employeeCreateRequest) {
+        log.info("Received request: createEmployee with payload={}", employeeCreateRequest);
+        return employeeService
+                .create(employeeCreateRequest)
+                .map(created -> ResponseEntity.status(HttpStatus.CREATED).body(created.toDto()))
+                .contextWrite(StaleResponses.bindRequest());
+    }
+
+    @PostMapping("/bulk")
+    @Operation(
+            summary = ApiDocsConstant.CREATE_EMPLOYEES_SUMMARY,
+            description = ApiDocsConstant.CREATE_EMPLOYEES_DESCRIPTION)
+    @ApiResponse(
+            responseCode = "200",
+            description = "Success",
+            content =
+                    @Content(
+                            mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = EmployeeCreateResultDTO.class))))
+    @ApiResponse(
+            responseCode = "400",
+            description = "Bad Request",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiException.class)))
+    @ApiResponse(
+            responseCode = "500",
+            description = "Internal Server Error",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiException.class)))
+    public Mono<ResponseEntity<List<EmployeeCreateResultDTO>>> createEmployees(
+            @Validated @RequestBody EmployeeBulkCreateRequest bulkCreateRequest) {
+        log.info("Received request: createEmployees for {} employees", bulkCreateRequest.getEmployees().size());
+        return employeeService
+                .createAll(bulkCreateRequest.getEmployees())
+                .map(ResponseEntity::ok)
+                .contextWrite(StaleResponses.bindRequest());
+    }
+
+    @PostMapping("/batch")
+    @Operation(
+            summary = ApiDocsConstant.GET_EMPLOYEES_BY_IDS_SUMMARY,
+            description = ApiDocsConstant.GET_EMPLOYEES_BY_IDS_DESCRIPTION)
+    @ApiResponse(
+            responseCode = "200",
+            description = "Success",
+            content =
+                    @Content(
+                            mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = EmployeeLookupDTO.class))))
+    @ApiResponse(
+            responseCode = "400",
+            description = "Bad Request",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiException.class)))
+    @ApiResponse(
+            responseCode = "500",
+            description = "Internal Server Error",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiException.class)))
+    public Mono<ResponseEntity<List<EmployeeLookupDTO>>> getEmployeesByIds(
+            @Validated @RequestBody EmployeeBatchRequest batchRequest) {
+        log.info("Received request: getEmployeesByIds for {} ids", batchRequest.getIds().size());
+        return employeeService
+                .fetchByIds(batchRequest.getIds())
+                .map(ResponseEntity::ok)
+                .contextWrite(StaleResponses.bindRequest());
+    }
+
+    @Override
+    @DeleteMapping("/{id}")
+    @Operation(
+            summary = ApiDocsConstant.DELETE_AN_EMPLOYEE_BY_ID_SUMMARY,
+            description = ApiDocsConstant.DELETES_AN_EMPLOYEE_BY_ID_DESCRIPTION)
+    @ApiResponse(
+            responseCode = "200",
+            description = "Employee Deleted Successfully",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = String.class)))
+    @ApiResponse(
+            responseCode = "429",
+            description = "Too Many Requests",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiException.class)))
+    @ApiResponse(
+            responseCode = "404",
+            description = "Employee Not Found",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiException.class)))
+    @ApiResponse(
+            responseCode = "500",
+            description = "Internal Server Error",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiException.class)))
+    public Mono<ResponseEntity<String>> deleteEmployeeById(@PathVariable String id) {
+        log.info("Received request: deleteEmployeeById with id={}", id);
+        return employeeService.deleteById(id).map(ResponseEntity::ok).contextWrite(StaleResponses.bindRequest());
+    }
+}
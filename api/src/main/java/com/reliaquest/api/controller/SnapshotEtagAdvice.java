@@ -0,0 +1,88 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.utils.ServedSnapshots;
+import com.reliaquest.api.utils.ServedSnapshots.Served;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Makes GET responses built from the employee snapshot conditional. The strong {@code ETag} names the snapshot version
+ * the body was read from and the media type it is written as, since the same path can be negotiated into different
+ * representations; {@code Vary: Accept} tells caches so. A request whose {@code If-None-Match} still names that
+ * version and media type gets an empty 304, and the body is never serialized.
+ *
+ * <p>{@code Cache-Control} lets a client reuse the body until the snapshot is due for its background refresh
+ * ({@code employees.snapshot.refresh-after-ms}). After that it must revalidate.
+ */
+@RestControllerAdvice
+public class SnapshotEtagAdvice implements ResponseBodyAdvice<Object> {
+
+    // Versions restart at 1 with the process; the start time keeps tags from an earlier run from matching
+    private static final String EPOCH = Long.toString(System.currentTimeMillis(), 36);
+
+    @Value("${employees.snapshot.refresh-after-ms}")
+    private long refreshAfterMillis;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(
+            Object body,
+            MethodParameter returnType,
+            MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            ServerHttpRequest request,
+            ServerHttpResponse response) {
+        if (!HttpMethod.GET.equals(request.getMethod())
+                || !(request instanceof ServletServerHttpRequest servletRequest)
+                || !(response instanceof ServletServerHttpResponse servletResponse)) {
+            return body;
+        }
+        Optional<Served> served = ServedSnapshots.served(servletRequest.getServletRequest());
+        if (served.isEmpty()) {
+            return body;
+        }
+
+        HttpHeaders headers = response.getHeaders();
+        headers.setCacheControl(cacheControl(served.get().loadedAt()));
+        if (!headers.getVary().contains(HttpHeaders.ACCEPT)) {
+            headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        }
+        ServletWebRequest webRequest =
+                new ServletWebRequest(servletRequest.getServletRequest(), servletResponse.getServletResponse());
+        if (webRequest.checkNotModified(etag(served.get().version(), selectedContentType))) {
+            // Status and ETag are already set; skipping the body leaves an empty 304
+            return null;
+        }
+        return body;
+    }
+
+    static String etag(long version, MediaType contentType) {
+        return "\"" + EPOCH + "-" + version + "-" + contentType.getType() + "/" + contentType.getSubtype() + "\"";
+    }
+
+    private CacheControl cacheControl(Instant loadedAt) {
+        long age = Duration.between(loadedAt, Instant.now()).toMillis();
+        return CacheControl.maxAge(Duration.ofMillis(Math.max(0, refreshAfterMillis - age)))
+                .mustRevalidate()
+                .cachePrivate();
+    }
+}
@@ -0,0 +1,50 @@
+package com.reliaquest.api.controller;
+
+import com.reliaquest.api.utils.StaleResponses;
+import java.time.Duration;
+import java.time.Instant;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Adds staleness headers to responses that were answered from last-known-good data while the upstream circuit breaker
+ * was open. {@code Age} gives the seconds since that data was fetched. {@code X-Data-Stale-Since} gives the fetch time.
+ */
+@RestControllerAdvice
+public class StaleResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String STALE_SINCE_HEADER = "X-Data-Stale-Since";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(
+            Object body,
+            MethodParameter returnType,
+            MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            ServerHttpRequest request,
+            ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest) {
+            StaleResponses.loadedAt(servletRequest.getServletRequest())
+                    .ifPresent(loadedAt -> addStaleHeaders(response.getHeaders(), loadedAt));
+        }
+        return body;
+    }
+
+    static void addStaleHeaders(HttpHeaders headers, Instant loadedAt) {
+        long age = Math.max(0, Duration.between(loadedAt, Instant.now()).toSeconds());
+        headers.set(HttpHeaders.AGE, String.valueOf(age));
+        headers.set(STALE_SINCE_HEADER, loadedAt.toString());
+    }
+}
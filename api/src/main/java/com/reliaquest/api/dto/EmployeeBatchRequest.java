@@ -0,0 +1,17 @@
+package com.reliaquest.api.dto;
+
+import jakarta.validation.constraints.*;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class EmployeeBatchRequest {
+
+    public static final int MAX_IDS = 1000;
+
+    @NotEmpty(message = "At least one id must be provided")
+    @Size(max = MAX_IDS, message = "At most " + MAX_IDS + " ids can be looked up at once")
+    private List<@NotBlank(message = "Ids cannot be blank") String> ids;
+}
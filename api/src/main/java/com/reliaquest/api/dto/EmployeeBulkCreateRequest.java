@@ -0,0 +1,18 @@
+package com.reliaquest.api.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class EmployeeBulkCreateRequest {
+
+    public static final int MAX_EMPLOYEES = 1000;
+
+    @NotEmpty(message = "At least one employee must be provided")
+    @Size(max = MAX_EMPLOYEES, message = "At most " + MAX_EMPLOYEES + " employees can be created at once")
+    private List<@Valid @NotNull(message = "Employees cannot be null") EmployeeCreateRequest> employees;
+}
@@ -0,0 +1,7 @@
+package com.reliaquest.api.dto;
+
+/**
+ * Outcome of one item of a bulk create, by its position in the request. {@code status} is the HTTP status a single
+ * create would have returned; {@code employee} is set on success and {@code error} otherwise.
+ */
+public record EmployeeCreateResultDTO(int index, int status, EmployeeDTO employee, String error) {}
@@ -0,0 +1,6 @@
+package com.reliaquest.api.dto;
+
+/**
+ * Bounds on the employees to list. Every bound is inclusive and optional, and {@code title} matches ignoring case.
+ */
+public record EmployeeFilter(String title, Integer minSalary, Integer maxSalary, Integer minAge, Integer maxAge) {}
@@ -0,0 +1,7 @@
+package com.reliaquest.api.dto;
+
+/**
+ * Outcome of looking up one id of a batch. {@code status} is the HTTP status a single lookup of the id would have
+ * returned, and {@code employee} is set only when it is 200.
+ */
+public record EmployeeLookupDTO(String id, int status, EmployeeDTO employee) {}
@@ -0,0 +1,9 @@
+package com.reliaquest.api.dto;
+
+import java.util.List;
+
+/**
+ * One page of the roster ordered by employee id. {@code nextCursor} is null on the last page; {@code version} is the
+ * roster version the page was read from.
+ */
+public record EmployeePageDTO(List<EmployeeDTO> employees, String nextCursor, long version) {}
@@ -0,0 +1,13 @@
+package com.reliaquest.api.dto;
+
+import java.util.List;
+
+/**
+ * Salary distribution of the roster. Minimum, maximum and mean are exact; the percentiles are estimates within 1% of
+ * the true salary at that rank. Histogram counts are exact, and {@code upperBound} is null for the last band.
+ */
+public record SalaryStatsDTO(
+        int count, int min, int max, double mean, int p50, int p90, int p99, List<SalaryBucket> histogram) {
+
+    public record SalaryBucket(int lowerBound, Integer upperBound, int count) {}
+}
@@ -0,0 +1,123 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.client.EmployeeApiClient;
+import com.reliaquest.api.dto.EmployeeBulkCreateRequest;
+import com.reliaquest.api.dto.EmployeeCreateRequest;
+import com.reliaquest.api.dto.EmployeeCreateResultDTO;
+import com.reliaquest.api.exception.ApiException;
+import com.reliaquest.api.store.Employee;
+import com.reliaquest.api.store.EmployeeSnapshotStore;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Creates a batch of employees upstream with up to {@code employees.bulk.max-concurrency} POSTs in flight. Every POST
+ * still passes through the client's rate limiter, retries and circuit breaker, so the pipeline slows down as soon as
+ * the upstream starts answering 429. A failed item does not stop the others.
+ *
+ * <p>A batch holds at most {@link EmployeeBulkCreateRequest#MAX_EMPLOYEES} items and has
+ * {@code employees.bulk.timeout-ms} to finish. When that runs out, items still in flight are cut off and items not yet
+ * started are not attempted; both are reported as 504, so the batch always answers with one result per item. Each
+ * employee is recorded as soon as the upstream creates it, and everything recorded is applied to the snapshot store in
+ * one write when the batch ends, whether it completed, failed or was cancelled, so an employee created upstream is
+ * never missing locally.
+ */
+@Component
+@Slf4j
+public class EmployeeBulkCreator {
+
+    private final EmployeeApiClient employeeApiClient;
+    private final EmployeeSnapshotStore snapshotStore;
+    private final int maxConcurrency;
+    private final Duration timeout;
+
+    public EmployeeBulkCreator(
+            EmployeeApiClient employeeApiClient,
+            EmployeeSnapshotStore snapshotStore,
+            @Value("${employees.bulk.max-concurrency}") int maxConcurrency,
+            @Value("${employees.bulk.timeout-ms}") long timeoutMillis) {
+        this.employeeApiClient = employeeApiClient;
+        this.snapshotStore = snapshotStore;
+        this.maxConcurrency = maxConcurrency;
+        this.timeout = Duration.ofMillis(timeoutMillis);
+    }
+
+    public Mono<List<EmployeeCreateResultDTO>> createAll(List<EmployeeCreateRequest> createRequests) {
+        if (createRequests.size() > EmployeeBulkCreateRequest.MAX_EMPLOYEES) {
+            return Mono.error(new ApiException(
+                    "At most " + EmployeeBulkCreateRequest.MAX_EMPLOYEES + " employees can be created at once",
+                    HttpStatus.BAD_REQUEST));
+        }
+        return Mono.defer(() -> {
+            long deadline = System.nanoTime() + timeout.toNanos();
+            Queue<Employee> created = new ConcurrentLinkedQueue<>();
+            Runnable applyCreated = () -> snapshotStore.applyCreatedAll(drain(created));
+            return Flux.range(0, createRequests.size())
+                    .flatMapSequential(
+                            index -> create(index, createRequests.get(index), created, deadline), maxConcurrency)
+                    .collectList()
+                    .doOnTerminate(applyCreated)
+                    .doOnCancel(applyCreated)
+                    .doOnNext(results -> log.info(
+                            "Bulk create finished: {} of {} employees created",
+                            results.stream().filter(result -> result.employee() != null).count(),
+                            results.size()));
+        });
+    }
+
+    private Mono<EmployeeCreateResultDTO> create(
+            int index, EmployeeCreateRequest createRequest, Queue<Employee> created, long deadline) {
+        return Mono.defer(() -> {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return Mono.just(new EmployeeCreateResultDTO(
+                        index, HttpStatus.GATEWAY_TIMEOUT.value(), null, "Not attempted: the bulk create timed out"));
+            }
+            return employeeApiClient
+                    .create(createRequest)
+                    .timeout(Duration.ofNanos(remaining))
+                    .doOnNext(created::add)
+                    .map(employee -> new EmployeeCreateResultDTO(
+                            index, HttpStatus.CREATED.value(), employee.toDto(), null))
+                    .onErrorResume(e -> {
+                        String error = e instanceof TimeoutException
+                                ? "Did not complete before the bulk create timed out"
+                                : e.getMessage();
+                        log.warn("Bulk create item {} ({}) failed: {}", index, createRequest.getName(), error);
+                        return Mono.just(new EmployeeCreateResultDTO(index, statusOf(e).value(), null, error));
+                    });
+        });
+    }
+
+    private static List<Employee> drain(Queue<Employee> created) {
+        List<Employee> drained = new ArrayList<>(created.size());
+        for (Employee employee = created.poll(); employee != null; employee = created.poll()) {
+            drained.add(employee);
+        }
+        return drained;
+    }
+
+    private static HttpStatus statusOf(Throwable error) {
+        if (error instanceof ApiException apiException) {
+            return apiException.getStatus();
+        }
+        if (error instanceof CallNotPermittedException) {
+            return HttpStatus.SERVICE_UNAVAILABLE;
+        }
+        if (error instanceof TimeoutException) {
+            return HttpStatus.GATEWAY_TIMEOUT;
+        }
+        return HttpStatus.INTERNAL_SERVER_ERROR;
+    }
+}
@@ -0,0 +1,74 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.dto.EmployeePageDTO;
+import com.reliaquest.api.exception.ApiException;
+import com.reliaquest.api.store.Employee;
+import com.reliaquest.api.store.EmployeeSnapshot;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cuts the roster into pages ordered by employee id. A cursor is the opaque encoding of the last id of the previous
+ * page, and the next page starts after that id in whichever snapshot is current. Pages are therefore only ordered by
+ * id, not read from one version of the roster: an employee created or deleted between two pages shows up or drops out
+ * according to where its id falls. Each page reports the version it was read from, so a client can tell.
+ */
+@Component
+public class EmployeePager {
+
+    private final int defaultPageSize;
+    private final int maxPageSize;
+
+    public EmployeePager(
+            @Value("${employees.pagination.default-page-size}") int defaultPageSize,
+            @Value("${employees.pagination.max-page-size}") int maxPageSize) {
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+    }
+
+    /**
+     * Validates the request before any data is loaded; {@code limit} may be null for the default page size.
+     */
+    public int pageSize(Integer limit) {
+        int pageSize = limit == null ? defaultPageSize : limit;
+        if (pageSize < 1 || pageSize > maxPageSize) {
+            throw new ApiException("limit must be between 1 and " + maxPageSize, HttpStatus.BAD_REQUEST);
+        }
+        return pageSize;
+    }
+
+    public String afterId(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        try {
+            String afterId = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (afterId.isEmpty()) {
+                throw new IllegalArgumentException("missing id");
+            }
+            return afterId;
+        } catch (IllegalArgumentException e) {
+            throw new ApiException("Invalid cursor", HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    public EmployeePageDTO page(EmployeeSnapshot snapshot, String afterId, int pageSize) {
+        // One extra employee tells whether another page follows
+        List<Employee> employees = snapshot.getEmployeesAfterId(afterId, pageSize + 1);
+        String nextCursor = null;
+        if (employees.size() > pageSize) {
+            employees = employees.subList(0, pageSize);
+            nextCursor = encode(employees.get(pageSize - 1).id());
+        }
+        return new EmployeePageDTO(Employee.toDtos(employees), nextCursor, snapshot.getVersion());
+    }
+
+    static String encode(String lastId) {
+        byte[] cursor = lastId.getBytes(StandardCharsets.UTF_8);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor);
+    }
+}
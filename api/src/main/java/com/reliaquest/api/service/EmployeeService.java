@@ -1,22 +1,41 @@
 package com.reliaquest.api.service;
 
 import com.reliaquest.api.dto.EmployeeCreateRequest;
-import com.reliaquest.api.dto.EmployeeDTO;
+import com.reliaquest.api.dto.EmployeeCreateResultDTO;
+import com.reliaquest.api.dto.EmployeeLookupDTO;
+import com.reliaquest.api.dto.EmployeePageDTO;
+import com.reliaquest.api.dto.SalaryStatsDTO;
+import com.reliaquest.api.store.Employee;
+import com.reliaquest.api.store.EmployeeSnapshot;
 import java.util.List;
 
 public interface EmployeeService {
 
-    List<EmployeeDTO> fetchAll();
+    List<Employee> fetchAll();
 
-    EmployeeDTO fetchById(String id);
+    EmployeePageDTO getPage(String cursor, Integer limit);
 
-    List<EmployeeDTO> searchByName(String name);
+    EmployeeSnapshot snapshot();
+
+    EmployeeSnapshot fetchSnapshot();
+
+    Employee fetchById(String id);
+
+    List<EmployeeLookupDTO> fetchByIds(List<String> ids);
+
+    List<Employee> searchByName(String name);
 
     List<String> getTopTenEmployeeNamesBySalary();
 
+    List<Employee> getTopEarners(int k);
+
     int getHighestSalary();
 
-    EmployeeDTO create(EmployeeCreateRequest createRequest);
+    SalaryStatsDTO getSalaryStats();
+
+    Employee create(EmployeeCreateRequest createRequest);
+
+    List<EmployeeCreateResultDTO> createAll(List<EmployeeCreateRequest> createRequests);
 
     String deleteById(String id);
 }
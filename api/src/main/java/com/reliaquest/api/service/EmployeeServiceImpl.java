@@ -1,198 +1,266 @@
 package com.reliaquest.api.service;
 
-import static com.reliaquest.api.constants.Constants.EMPLOYEE;
-import static com.reliaquest.api.constants.Constants.EMPLOYEE_BY_ID;
-
+import com.reliaquest.api.client.EmployeeApiClient;
 import com.reliaquest.api.dto.EmployeeCreateRequest;
-import com.reliaquest.api.dto.EmployeeDTO;
+import com.reliaquest.api.dto.EmployeeCreateResultDTO;
+import com.reliaquest.api.dto.EmployeeLookupDTO;
+import com.reliaquest.api.dto.EmployeePageDTO;
+import com.reliaquest.api.dto.SalaryStatsDTO;
 import com.reliaquest.api.exception.ApiException;
-import com.reliaquest.api.model.ApiResponse;
-import com.reliaquest.api.model.EmployeeListResponse;
-import com.reliaquest.api.model.EmployeeResponse;
-import com.reliaquest.api.model.GenericResponse;
-import com.reliaquest.api.utils.Retry;
-import com.reliaquest.api.utils.Utils;
-import java.util.Collections;
-import java.util.Comparator;
+import com.reliaquest.api.store.Employee;
+import com.reliaquest.api.store.EmployeeSnapshot;
+import com.reliaquest.api.store.EmployeeSnapshotStore;
+import com.reliaquest.api.store.EmployeeSnapshotStore.LastKnownEmployee;
+import com.reliaquest.api.utils.ServedSnapshots;
+import com.reliaquest.api.utils.SingleFlight;
+import com.reliaquest.api.utils.StaleResponses;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.aop.framework.AopContext;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.http.*;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class EmployeeServiceImpl implements EmployeeService {
 
-    private final WebClient webClient;
-    private final Utils utils;
+    private static final String ALL_EMPLOYEES = "all";
+    // Answers served from last-known-good data must not be cached as if they were fresh
+    private static final String STALE = "T(com.reliaquest.api.utils.StaleResponses).isMarked()";
+
+    private final EmployeeApiClient employeeApiClient;
+    private final EmployeeSnapshotStore snapshotStore;
+    private final SingleFlight singleFlight;
+    private final EmployeePager employeePager;
+    private final EmployeeBulkCreator bulkCreator;
 
-    @Value("${server.api.url:http://localhost:8112/api/v1}")
-    private String serverBaseUrl;
+    @Value("${employees.snapshot.min-reload-age-ms}")
+    private long minReloadAgeMillis;
 
-    @Cacheable("employeesAll")
-    @Retry
     @Override
-    public List<EmployeeDTO> fetchAll() {
-        log.info("Fetching all employees from Mock Employee API");
+    public List<Employee> fetchAll() {
+        return snapshot().getEmployees();
+    }
 
-        String url = serverBaseUrl + EMPLOYEE;
-        WebClient.ResponseSpec responseSpec =
-                utils.addExceptionHandling(webClient.get().uri(url).retrieve());
+    @Override
+    public EmployeePageDTO getPage(String cursor, Integer limit) {
+        log.info("Fetching employee page with limit {} after cursor {}", limit, cursor);
+        int pageSize = employeePager.pageSize(limit);
+        String afterId = employeePager.afterId(cursor);
 
-        ResponseEntity<EmployeeListResponse> response =
-                responseSpec.toEntity(EmployeeListResponse.class).block();
+        return employeePager.page(snapshot(), afterId, pageSize);
+    }
 
-        if (response == null || response.getBody() == null) {
-            log.warn("Empty response received while fetching all employees");
-            return Collections.emptyList();
+    @Override
+    public EmployeeSnapshot snapshot() {
+        EmployeeSnapshot snapshot;
+        try {
+            snapshot = snapshotStore.current().orElseGet(this::loadSnapshot);
+        } catch (CallNotPermittedException e) {
+            snapshot = snapshotStore.lastKnownGood().orElseThrow(() -> upstreamUnavailable(e));
+            log.warn("Upstream circuit breaker is open; serving last-known-good snapshot v{}", snapshot.getVersion());
+            StaleResponses.mark(snapshot.getLoadedAt());
         }
+        ServedSnapshots.mark(snapshot.getVersion(), snapshot.getLoadedAt());
+        return snapshot;
+    }
 
-        List<EmployeeDTO> employees = response.getBody().getData();
-        log.info("Successfully fetched {} employees", employees.size());
-        return employees;
+    @Override
+    public EmployeeSnapshot fetchSnapshot() {
+        EmployeeSnapshot snapshot = EmployeeSnapshot.of(employeeApiClient.fetchAll().block());
+        log.info("Successfully fetched {} employees (snapshot v{})", snapshot.size(), snapshot.getVersion());
+        return snapshot;
     }
 
-    @Cacheable(value = "employeeById", key = "#id")
-    @Retry
+    @Cacheable(value = "employeeById", key = "#id", unless = STALE)
     @Override
-    public EmployeeDTO fetchById(String id) {
+    public Employee fetchById(String id) {
         log.info("Fetching employee by ID: {}", id);
 
-        String url = serverBaseUrl + EMPLOYEE_BY_ID.replace(":id", id);
-        WebClient.ResponseSpec responseSpec = webClient.get().uri(url).retrieve();
-        responseSpec = utils.addExceptionHandling(responseSpec);
+        Optional<Employee> local = snapshotStore.current().flatMap(snapshot -> snapshot.findById(id));
+        if (local.isPresent()) {
+            log.info("Employee found with ID: {} in the current snapshot", id);
+            return local.get();
+        }
 
-        ResponseEntity<EmployeeResponse> response =
-                responseSpec.toEntity(EmployeeResponse.class).block();
+        try {
+            return singleFlight.execute("fetchById", id, () -> fetchEmployee(id));
+        } catch (CallNotPermittedException e) {
+            LastKnownEmployee lastKnown =
+                    snapshotStore.lastKnownEmployee(id).orElseThrow(() -> upstreamUnavailable(e));
+            log.warn("Upstream circuit breaker is open; serving last-known-good employee {}", id);
+            StaleResponses.mark(lastKnown.loadedAt());
+            return lastKnown.employee();
+        }
+    }
 
-        if (response != null && response.getBody() != null) {
-            log.info("Employee found with ID: {}", id);
-            return response.getBody().getData();
+    private EmployeeSnapshot loadSnapshot() {
+        return singleFlight.execute("fetchAll", ALL_EMPLOYEES, () -> {
+            long fetchStartedAt = snapshotStore.beginFetch();
+            return snapshotStore.publish(fetchSnapshot(), fetchStartedAt);
+        });
+    }
+
+    private Employee fetchEmployee(String id) {
+        Employee employee = employeeApiClient.fetchById(id).block();
+        snapshotStore.rememberEmployee(employee);
+        return employee;
+    }
+
+    @Override
+    public List<EmployeeLookupDTO> fetchByIds(List<String> ids) {
+        log.info("Fetching {} employees by ID", ids.size());
+
+        Map<String, Employee> found = new HashMap<>();
+        List<String> misses = findCached(snapshotStore, ids, found);
+        HttpStatus missStatus = HttpStatus.NOT_FOUND;
+        if (!misses.isEmpty()) {
+            // One roster load answers every miss. A cached roster may predate employees created since, so it is
+            // reloaded rather than trusted about absent ids, unless it was fetched too recently to be worth it
+            try {
+                EmployeeSnapshot snapshot =
+                        reloadable(snapshotStore.current(), minReloadAgeMillis) ? loadSnapshot() : snapshot();
+                misses.forEach(id -> snapshot.findById(id).ifPresent(employee -> found.put(id, employee)));
+            } catch (ApiException e) {
+                missStatus = e.getStatus();
+            } catch (CallNotPermittedException e) {
+                log.warn("Upstream circuit breaker is open; cannot confirm {} missing employees", misses.size());
+                missStatus = HttpStatus.SERVICE_UNAVAILABLE;
+            }
         }
 
-        log.error("Employee not found for ID: {}", id);
-        throw new ApiException("Employee not found for id " + id, HttpStatus.NOT_FOUND);
+        log.info("Resolved {} of {} requested employees", found.size(), ids.size());
+        return lookupResults(ids, found, missStatus);
     }
 
-    @Cacheable(value = "searchByName", key = "#name")
-    @Retry
+    @Cacheable(
+            value = "searchByName",
+            key = "T(com.reliaquest.api.store.NameSearchIndex).normalize(#name)",
+            unless = STALE)
     @Override
-    public List<EmployeeDTO> searchByName(String name) {
+    public List<Employee> searchByName(String name) {
         log.info("Searching employees containing name: {}", name);
 
-        EmployeeService self = (EmployeeService) AopContext.currentProxy();
-        List<EmployeeDTO> matchedEmployees = self.fetchAll().stream()
-                .filter(e -> e.getName().toLowerCase().contains(name.toLowerCase()))
-                .toList();
+        List<Employee> matchedEmployees = snapshot().searchByName(name);
 
         log.info("Found {} employees matching name '{}'", matchedEmployees.size(), name);
         return matchedEmployees;
     }
 
-    @Cacheable("topTenNamesBySalary")
-    @Retry
     @Override
     public List<String> getTopTenEmployeeNamesBySalary() {
         log.info("Fetching top 10 employees by salary");
 
-        EmployeeService self = (EmployeeService) AopContext.currentProxy();
-        List<String> topTenEmployees = self.fetchAll().stream()
-                .sorted(Comparator.comparingInt(EmployeeDTO::getSalary).reversed())
-                .limit(10)
-                .map(EmployeeDTO::getName)
-                .toList();
+        List<String> topTenEmployees = snapshot().getTopEarnerNames(EmployeeSnapshot.TOP_EARNERS_LIMIT);
 
         log.info("Top 10 highest earning employees: {}", topTenEmployees);
         return topTenEmployees;
     }
 
-    @Cacheable("highestSalary")
-    @Retry
+    @Override
+    public List<Employee> getTopEarners(int k) {
+        log.info("Fetching top {} employees by salary", k);
+        validateTopEarnersCount(k);
+
+        return snapshot().getTopEarners(k);
+    }
+
     @Override
     public int getHighestSalary() {
         log.info("Fetching highest salary among employees");
 
-        EmployeeService self = (EmployeeService) AopContext.currentProxy();
-        return self.fetchAll().stream()
-                .map(EmployeeDTO::getSalary)
-                .max(Integer::compareTo)
-                .orElse(0);
+        return snapshot().getHighestSalary();
     }
 
-    @CacheEvict(
-            value = {"employeesAll", "employeeById", "searchByName", "highestSalary", "topTenNamesBySalary"},
-            allEntries = true)
-    @Retry
     @Override
-    public EmployeeDTO create(EmployeeCreateRequest createRequest) {
-        log.info("Creating new employee: {}", createRequest.getName());
-
-        String url = serverBaseUrl + EMPLOYEE;
-        WebClient.ResponseSpec responseSpec = webClient
-                .post()
-                .uri(url)
-                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                .bodyValue(createRequest)
-                .retrieve();
-        responseSpec = utils.addExceptionHandling(responseSpec);
-
-        ResponseEntity<EmployeeResponse> response =
-                responseSpec.toEntity(EmployeeResponse.class).block();
-
-        if (response != null && response.getBody() != null) {
-            EmployeeDTO created = response.getBody().getData();
-            log.info("Employee created successfully: {}", created.getName());
-            return created;
-        }
+    public SalaryStatsDTO getSalaryStats() {
+        log.info("Fetching salary statistics");
+
+        return snapshot().getSalaryStats();
+    }
 
-        log.error("Failed to create employee: {}", createRequest.getName());
-        throw new ApiException("Failed to create employee", HttpStatus.INTERNAL_SERVER_ERROR);
+    @Override
+    public Employee create(EmployeeCreateRequest createRequest) {
+        Employee created = employeeApiClient.create(createRequest).block();
+        snapshotStore.applyCreated(created);
+        return created;
+    }
+
+    @Override
+    public List<EmployeeCreateResultDTO> createAll(List<EmployeeCreateRequest> createRequests) {
+        log.info("Creating {} employees", createRequests.size());
+
+        return bulkCreator.createAll(createRequests).block();
     }
 
-    @CacheEvict(
-            value = {"employeesAll", "employeeById", "searchByName", "highestSalary", "topTenNamesBySalary"},
-            allEntries = true)
-    @Retry
     @Override
     public String deleteById(String id) {
         log.info("Deleting employee by ID: {}", id);
 
-        EmployeeService self = (EmployeeService) AopContext.currentProxy();
-        EmployeeDTO employee = self.fetchById(id);
-        String name = employee.getName();
-
-        String url = serverBaseUrl + EMPLOYEE;
-        WebClient.ResponseSpec responseSpec = webClient
-                .method(HttpMethod.DELETE)
-                .uri(url)
-                .bodyValue(Map.of("name", name))
-                .retrieve();
-        responseSpec = utils.addExceptionHandling(responseSpec);
-
-        ResponseEntity<GenericResponse> response =
-                responseSpec.toEntity(GenericResponse.class).block();
-
-        if (response != null && response.getStatusCode() == HttpStatus.OK) {
-            ApiResponse body = response.getBody();
-            if (body != null && Boolean.parseBoolean(String.valueOf(body.getData()))) {
-                log.info("Successfully deleted employee: {} (ID: {})", name, id);
-                return name;
-            }
+        // Only an id missing from the caches costs an extra upstream call to learn the name
+        Employee employee = snapshotStore.findCached(id).orElseGet(() -> self().fetchById(id));
+        String deletedName = employeeApiClient.deleteByName(id, employee.name()).block();
+        snapshotStore.applyDeleted(employee);
+        return deletedName;
+    }
+
+    static void validateTopEarnersCount(int k) {
+        if (k < 1 || k > EmployeeSnapshot.MAX_TOP_EARNERS) {
+            throw new ApiException(
+                    "k must be between 1 and " + EmployeeSnapshot.MAX_TOP_EARNERS, HttpStatus.BAD_REQUEST);
         }
+    }
+
+    /**
+     * Collects the employees held in the current snapshot or the by-id cache into {@code found} and returns the ids
+     * that are in neither, each once.
+     */
+    static List<String> findCached(
+            EmployeeSnapshotStore snapshotStore, List<String> ids, Map<String, Employee> found) {
+        List<String> misses = new ArrayList<>();
+        for (String id : new LinkedHashSet<>(ids)) {
+            snapshotStore.findCached(id).ifPresentOrElse(employee -> found.put(id, employee), () -> misses.add(id));
+        }
+        return misses;
+    }
+
+    /**
+     * Whether a batch lookup that missed should reload the cached roster: only once it is at least
+     * {@code minReloadAgeMillis} old, so that a stream of unknown ids does not turn into a stream of full fetches.
+     */
+    static boolean reloadable(Optional<EmployeeSnapshot> current, long minReloadAgeMillis) {
+        return current.map(snapshot -> Duration.between(snapshot.getLoadedAt(), Instant.now()).toMillis())
+                .filter(age -> age >= minReloadAgeMillis)
+                .isPresent();
+    }
+
+    static List<EmployeeLookupDTO> lookupResults(
+            List<String> ids, Map<String, Employee> found, HttpStatus missStatus) {
+        return ids.stream()
+                .map(id -> found.containsKey(id)
+                        ? new EmployeeLookupDTO(id, HttpStatus.OK.value(), found.get(id).toDto())
+                        : new EmployeeLookupDTO(id, missStatus.value(), null))
+                .toList();
+    }
+
+    private static ApiException upstreamUnavailable(CallNotPermittedException cause) {
+        log.warn("Upstream circuit breaker is open and no last-known-good data is available: {}", cause.getMessage());
+        return new ApiException("Service Unavailable, try after some time", HttpStatus.SERVICE_UNAVAILABLE);
+    }
 
-        log.error("Failed to delete employee with ID: {}", id);
-        throw new ApiException(
-                "Failed to delete employee with id " + id,
-                response != null
-                        ? HttpStatus.valueOf(response.getStatusCode().value())
-                        : HttpStatus.INTERNAL_SERVER_ERROR);
+    private EmployeeService self() {
+        return (EmployeeService) AopContext.currentProxy();
     }
 }
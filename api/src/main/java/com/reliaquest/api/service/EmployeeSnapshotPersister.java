@@ -0,0 +1,127 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.store.EmployeeInterner;
+import com.reliaquest.api.store.EmployeeSnapshot;
+import com.reliaquest.api.store.EmployeeSnapshotFile;
+import com.reliaquest.api.store.EmployeeSnapshotFile.Restored;
+import com.reliaquest.api.store.EmployeeSnapshotStore;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps a copy of the employee snapshot on local disk so that a restarted instance starts warm. It is off unless
+ * {@code employees.snapshot.file.enabled} is set, and the file should live in a directory only this application writes
+ * to. On startup a file younger than {@code employees.snapshot.file.max-age-ms} is published before traffic arrives.
+ * A background refresh is then scheduled right away to replace it with the upstream's current roster. Until that
+ * refresh succeeds, the restored snapshot is served with its original fetch time, so staleness headers and cache
+ * lifetimes stay honest.
+ *
+ * <p>The snapshot cache expires a snapshot {@code max-stale-ms} after that fetch time. The file age limit is therefore
+ * capped at {@code max-stale-ms - refresh-after-ms}, which leaves a restored snapshot at least a refresh interval to
+ * be replaced before it expires.
+ *
+ * <p>The served snapshot is written back every {@code employees.snapshot.file.save-interval-ms} if its version changed
+ * since the last save, and once more on shutdown, so a burst of writes costs one file rewrite rather than one each.
+ */
+@Component
+@ConditionalOnProperty(name = "employees.snapshot.file.enabled", havingValue = "true")
+@Slf4j
+public class EmployeeSnapshotPersister {
+
+    private final EmployeeSnapshotStore snapshotStore;
+    private final EmployeeSnapshotRefresher refresher;
+    private final EmployeeInterner interner;
+    private final TaskScheduler taskScheduler;
+    private final Path path;
+    private final Duration maxAge;
+    private volatile long savedVersion;
+
+    public EmployeeSnapshotPersister(
+            EmployeeSnapshotStore snapshotStore,
+            EmployeeSnapshotRefresher refresher,
+            EmployeeInterner interner,
+            TaskScheduler taskScheduler,
+            @Value("${employees.snapshot.file.path}") Path path,
+            @Value("${employees.snapshot.file.max-age-ms}") long maxAgeMillis,
+            @Value("${employees.snapshot.max-stale-ms}") long maxStaleMillis,
+            @Value("${employees.snapshot.refresh-after-ms}") long refreshAfterMillis) {
+        this.snapshotStore = snapshotStore;
+        this.refresher = refresher;
+        this.interner = interner;
+        this.taskScheduler = taskScheduler;
+        this.path = path;
+        this.maxAge = Duration.ofMillis(Math.max(0, Math.min(maxAgeMillis, maxStaleMillis - refreshAfterMillis)));
+    }
+
+    @EventListener(ApplicationStartedEvent.class)
+    public void restore() {
+        if (!Files.exists(path)) {
+            log.info("No employee snapshot file at {}, starting cold", path);
+            return;
+        }
+        Restored restored;
+        try {
+            restored = EmployeeSnapshotFile.read(path, interner);
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable employee snapshot file {} - Error: {}", path, e.getMessage());
+            return;
+        }
+
+        EmployeeSnapshot snapshot = restored.snapshot();
+        Duration age = Duration.between(snapshot.getLoadedAt(), Instant.now());
+        if (age.compareTo(maxAge) >= 0) {
+            log.info(
+                    "Ignoring employee snapshot file {}: {}s old, limit is {}s",
+                    path,
+                    age.toSeconds(),
+                    maxAge.toSeconds());
+            return;
+        }
+        snapshotStore.publish(snapshot);
+        savedVersion = snapshot.getVersion();
+        log.info(
+                "Restored {} employees from {} (saved as v{}, {}s old) as v{}",
+                snapshot.size(),
+                path,
+                restored.version(),
+                age.toSeconds(),
+                snapshot.getVersion());
+        taskScheduler.schedule(refresher::refresh, Instant.now());
+    }
+
+    @Scheduled(
+            initialDelayString = "${employees.snapshot.file.save-interval-ms}",
+            fixedDelayString = "${employees.snapshot.file.save-interval-ms}")
+    @PreDestroy
+    public void saveIfChanged() {
+        Optional<EmployeeSnapshot> current = snapshotStore.current();
+        if (current.isEmpty() || current.get().getVersion() == savedVersion) {
+            return;
+        }
+        EmployeeSnapshot snapshot = current.get();
+        try {
+            EmployeeSnapshotFile.write(path, snapshot);
+            savedVersion = snapshot.getVersion();
+            log.debug("Saved employee snapshot v{} to {}", snapshot.getVersion(), path);
+        } catch (IOException e) {
+            log.warn(
+                    "Failed to save employee snapshot v{} to {} - Error: {}",
+                    snapshot.getVersion(),
+                    path,
+                    e.getMessage());
+        }
+    }
+}
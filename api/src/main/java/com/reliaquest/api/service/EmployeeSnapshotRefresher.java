@@ -0,0 +1,93 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.store.EmployeeSnapshot;
+import com.reliaquest.api.store.EmployeeSnapshotStore;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reloads the employee snapshot in the background before it expires. Readers keep being served the previous snapshot
+ * while the reload (including its retries) runs, so no request ever blocks on an expired roster.
+ */
+@Component
+@Slf4j
+public class EmployeeSnapshotRefresher {
+
+    private final EmployeeService employeeService;
+    private final EmployeeSnapshotStore snapshotStore;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${employees.snapshot.refresh-after-ms}")
+    private long refreshAfterMillis;
+
+    public EmployeeSnapshotRefresher(
+            EmployeeService employeeService, EmployeeSnapshotStore snapshotStore, MeterRegistry meterRegistry) {
+        this.employeeService = employeeService;
+        this.snapshotStore = snapshotStore;
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("employee.snapshot.age", this, refresher -> refresher.snapshotAge()
+                        .map(age -> age.toMillis() / 1000.0)
+                        .orElse(Double.NaN))
+                .description("Seconds since the served employee snapshot was fetched from upstream")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("employee.snapshot.version", snapshotStore, store -> store.current()
+                        .map(EmployeeSnapshot::getVersion)
+                        .orElse(0L))
+                .description("Version of the served employee snapshot")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(
+            initialDelayString = "${employees.snapshot.refresh-check-interval-ms}",
+            fixedDelayString = "${employees.snapshot.refresh-check-interval-ms}")
+    public void refreshIfStale() {
+        Optional<Duration> age = snapshotAge();
+        if (age.isEmpty()) {
+            // Nothing to keep warm until a request has loaded the roster
+            return;
+        }
+        if (age.get().toMillis() >= refreshAfterMillis) {
+            refresh();
+        }
+    }
+
+    public void refresh() {
+        Optional<EmployeeSnapshot> previous = snapshotStore.current();
+        log.info(
+                "Refreshing employee snapshot in the background, currently serving v{}",
+                previous.map(EmployeeSnapshot::getVersion).orElse(0L));
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            long fetchStartedAt = snapshotStore.beginFetch();
+            EmployeeSnapshot snapshot = snapshotStore.publish(employeeService.fetchSnapshot(), fetchStartedAt);
+            log.info("Background refresh published employee snapshot v{}", snapshot.getVersion());
+        } catch (RuntimeException e) {
+            outcome = "failure";
+            log.warn(
+                    "Background refresh failed, continuing to serve snapshot v{} - Error: {}",
+                    previous.map(EmployeeSnapshot::getVersion).orElse(0L),
+                    e.getMessage());
+        } finally {
+            sample.stop(Timer.builder("employee.snapshot.refresh")
+                    .description("Background reloads of the employee snapshot")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    private Optional<Duration> snapshotAge() {
+        return snapshotStore.current().map(snapshot -> Duration.between(snapshot.getLoadedAt(), Instant.now()));
+    }
+}
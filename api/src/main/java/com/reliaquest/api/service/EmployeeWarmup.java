@@ -0,0 +1,195 @@
+package com.reliaquest.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.reliaquest.api.dto.EmployeeDTO;
+import com.reliaquest.api.store.Employee;
+import com.reliaquest.api.store.EmployeeSnapshot;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.stereotype.Component;
+
+/**
+ * Warms a new instance up before it reports ready. The employee snapshot is loaded through the service, which fills
+ * the roster, the by-id index and the aggregates. Then the read paths and the {@link EmployeeDTO} codecs are run
+ * repeatedly, so the JIT has compiled them before real traffic arrives. Pages of the roster are written through the
+ * same Jackson message converter Spring MVC uses for responses, not just through the object mapper.
+ *
+ * <p>The warm-up runs as an {@link ApplicationRunner}. Spring Boot publishes {@code ReadinessState.ACCEPTING_TRAFFIC}
+ * only once the runners have returned, so readiness stays {@code REFUSING_TRAFFIC} until the warm-up is over, while the
+ * web server, liveness and the aggregate health are already up. It is over when it completes or when
+ * {@code employees.warmup.budget-ms} has elapsed, whichever comes first. A failed prefetch ends it early, so a down
+ * upstream never keeps an instance unready. How long it took is recorded once, as the {@code employee.warmup} timer
+ * tagged with its outcome.
+ */
+@Component
+@Slf4j
+public class EmployeeWarmup implements ApplicationRunner {
+
+    private static final int PAGE_SIZE = 100;
+    private static final int SEARCH_PREFIX_LENGTH = 3;
+    private static final Type EMPLOYEE_LIST =
+            ResolvableType.forClassWithGenerics(List.class, EmployeeDTO.class).getType();
+
+    private final EmployeeService employeeService;
+    private final MappingJackson2HttpMessageConverter responseConverter;
+    private final MeterRegistry meterRegistry;
+    private final ObjectWriter employeeWriter;
+    private final ObjectReader employeeReader;
+    private final boolean enabled;
+    private final int iterations;
+    private final Duration budget;
+    private volatile Instant startedAt;
+    private volatile Duration took;
+    private volatile String outcome = "pending";
+
+    public EmployeeWarmup(
+            EmployeeService employeeService,
+            MappingJackson2HttpMessageConverter responseConverter,
+            MeterRegistry meterRegistry,
+            @Value("${employees.warmup.enabled}") boolean enabled,
+            @Value("${employees.warmup.iterations}") int iterations,
+            @Value("${employees.warmup.budget-ms}") long budgetMillis) {
+        this.employeeService = employeeService;
+        this.responseConverter = responseConverter;
+        this.meterRegistry = meterRegistry;
+        ObjectMapper objectMapper = responseConverter.getObjectMapper();
+        this.employeeWriter = objectMapper.writerFor(EmployeeDTO.class);
+        this.employeeReader = objectMapper.readerFor(EmployeeDTO.class);
+        this.enabled = enabled;
+        this.iterations = iterations;
+        this.budget = Duration.ofMillis(budgetMillis);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws InterruptedException {
+        startedAt = Instant.now();
+        if (!enabled) {
+            finish("disabled");
+            return;
+        }
+        // The prefetch may outlast the budget on a slow upstream; readiness does not wait for it
+        Thread thread = new Thread(this::warmUp, "employee-warmup");
+        thread.setDaemon(true);
+        thread.start();
+        thread.join(Math.max(1, budget.toMillis()));
+        if (took == null) {
+            log.warn("Warm-up budget of {}ms exceeded, reporting ready", budget.toMillis());
+        }
+    }
+
+    boolean isComplete() {
+        return took != null || isOverBudget();
+    }
+
+    boolean isOverBudget() {
+        Instant started = startedAt;
+        return started != null && Duration.between(started, Instant.now()).compareTo(budget) >= 0;
+    }
+
+    String getOutcome() {
+        return outcome;
+    }
+
+    void warmUp() {
+        log.info("Warming up: prefetching employees, then {} iterations within {}ms", iterations, budget.toMillis());
+        EmployeeSnapshot snapshot;
+        try {
+            snapshot = employeeService.snapshot();
+            employeeService.getTopTenEmployeeNamesBySalary();
+            employeeService.getHighestSalary();
+            employeeService.getSalaryStats();
+        } catch (RuntimeException e) {
+            log.warn("Warm-up prefetch failed, reporting ready without it - Error: {}", e.getMessage());
+            finish("prefetch failed");
+            return;
+        }
+
+        int completed = exercise(snapshot);
+        finish(completed < iterations ? "stopped early" : "complete");
+        log.info(
+                "Warm-up {} after {}ms: {} employees, {} of {} iterations",
+                outcome,
+                took.toMillis(),
+                snapshot.size(),
+                completed,
+                iterations);
+    }
+
+    /**
+     * Runs the snapshot read paths and the codecs over the roster, stopping at the budget.
+     */
+    int exercise(EmployeeSnapshot snapshot) {
+        List<Employee> employees = snapshot.getEmployees();
+        if (employees.isEmpty()) {
+            return iterations;
+        }
+        for (int i = 0; i < iterations; i++) {
+            if (isOverBudget()) {
+                return i;
+            }
+            Employee employee = employees.get(i % employees.size());
+            snapshot.findById(employee.id());
+            String name = employee.name();
+            if (name != null && !name.isEmpty()) {
+                snapshot.searchByName(name.substring(0, Math.min(SEARCH_PREFIX_LENGTH, name.length())));
+            }
+            try {
+                employeeReader.readValue(employeeWriter.writeValueAsBytes(employee.toDto()));
+                if (i % PAGE_SIZE == 0) {
+                    snapshot.getTopEarners(EmployeeSnapshot.TOP_EARNERS_LIMIT);
+                    writeResponse(Employee.toDtos(snapshot.getEmployeesAfterId(employee.id(), PAGE_SIZE)));
+                }
+            } catch (IOException e) {
+                log.warn("Warm-up serialization failed - Error: {}", e.getMessage());
+                return i;
+            }
+        }
+        return iterations;
+    }
+
+    private void writeResponse(List<EmployeeDTO> employees) throws IOException {
+        responseConverter.write(employees, EMPLOYEE_LIST, MediaType.APPLICATION_JSON, new DiscardedResponse());
+    }
+
+    private void finish(String result) {
+        outcome = result;
+        took = Duration.between(startedAt, Instant.now());
+        Timer.builder("employee.warmup")
+                .description("Time from startup until the warm-up completed, failed or gave up")
+                .tag("outcome", result)
+                .register(meterRegistry)
+                .record(took);
+    }
+
+    private static final class DiscardedResponse implements HttpOutputMessage {
+
+        private final HttpHeaders headers = new HttpHeaders();
+
+        @Override
+        public OutputStream getBody() {
+            return OutputStream.nullOutputStream();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+}
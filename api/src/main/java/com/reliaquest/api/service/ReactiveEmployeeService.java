@@ -0,0 +1,40 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.dto.EmployeeCreateRequest;
+import com.reliaquest.api.dto.EmployeeCreateResultDTO;
+import com.reliaquest.api.dto.EmployeeLookupDTO;
+import com.reliaquest.api.dto.EmployeePageDTO;
+import com.reliaquest.api.dto.SalaryStatsDTO;
+import com.reliaquest.api.store.Employee;
+import com.reliaquest.api.store.EmployeeSnapshot;
+import java.util.List;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveEmployeeService {
+
+    Mono<List<Employee>> fetchAll();
+
+    Mono<EmployeePageDTO> getPage(String cursor, Integer limit);
+
+    Mono<EmployeeSnapshot> snapshot();
+
+    Mono<Employee> fetchById(String id);
+
+    Mono<List<EmployeeLookupDTO>> fetchByIds(List<String> ids);
+
+    Mono<List<Employee>> searchByName(String name);
+
+    Mono<List<String>> getTopTenEmployeeNamesBySalary();
+
+    Mono<List<Employee>> getTopEarners(int k);
+
+    Mono<Integer> getHighestSalary();
+
+    Mono<SalaryStatsDTO> getSalaryStats();
+
+    Mono<Employee> create(EmployeeCreateRequest createRequest);
+
+    Mono<List<EmployeeCreateResultDTO>> createAll(List<EmployeeCreateRequest> createRequests);
+
+    Mono<String> deleteById(String id);
+}
@@ -0,0 +1,209 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.client.EmployeeApiClient;
+import com.reliaquest.api.dto.EmployeeCreateRequest;
+import com.reliaquest.api.dto.EmployeeCreateResultDTO;
+import com.reliaquest.api.dto.EmployeeLookupDTO;
+import com.reliaquest.api.dto.EmployeePageDTO;
+import com.reliaquest.api.dto.SalaryStatsDTO;
+import com.reliaquest.api.exception.ApiException;
+import com.reliaquest.api.store.Employee;
+import com.reliaquest.api.store.EmployeeSnapshot;
+import com.reliaquest.api.store.EmployeeSnapshotStore;
+import com.reliaquest.api.utils.RetryEngine;
+import com.reliaquest.api.utils.ServedSnapshots;
+import com.reliaquest.api.utils.SingleFlight;
+import com.reliaquest.api.utils.StaleResponses;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link EmployeeServiceImpl}. It shares the snapshot store, caches and single-flight layer
+ * with the blocking service, but never parks a thread: upstream calls are composed as {@link Mono}s and retried on
+ * Reactor timers.
+ */
+@Slf4j
+@Service
+public class ReactiveEmployeeServiceImpl implements ReactiveEmployeeService {
+
+    private static final String ALL_EMPLOYEES = "all";
+
+    private final EmployeeApiClient employeeApiClient;
+    private final EmployeeSnapshotStore snapshotStore;
+    private final SingleFlight singleFlight;
+    private final RetryEngine retryEngine;
+    private final EmployeePager employeePager;
+    private final EmployeeBulkCreator bulkCreator;
+    private final Cache employeeByIdCache;
+
+    @Value("${employees.snapshot.min-reload-age-ms}")
+    private long minReloadAgeMillis;
+
+    public ReactiveEmployeeServiceImpl(
+            EmployeeApiClient employeeApiClient,
+            EmployeeSnapshotStore snapshotStore,
+            SingleFlight singleFlight,
+            RetryEngine retryEngine,
+            EmployeePager employeePager,
+            EmployeeBulkCreator bulkCreator,
+            CacheManager cacheManager) {
+        this.employeeApiClient = employeeApiClient;
+        this.snapshotStore = snapshotStore;
+        this.singleFlight = singleFlight;
+        this.retryEngine = retryEngine;
+        this.employeePager = employeePager;
+        this.bulkCreator = bulkCreator;
+        this.employeeByIdCache =
+                Objects.requireNonNull(cacheManager.getCache(EmployeeSnapshotStore.BY_ID_CACHE_NAME));
+    }
+
+    @Override
+    public Mono<List<Employee>> fetchAll() {
+        return snapshot().map(EmployeeSnapshot::getEmployees);
+    }
+
+    @Override
+    public Mono<EmployeePageDTO> getPage(String cursor, Integer limit) {
+        return Mono.defer(() -> {
+            int pageSize = employeePager.pageSize(limit);
+            String afterId = employeePager.afterId(cursor);
+            return snapshot().map(snapshot -> employeePager.page(snapshot, afterId, pageSize));
+        });
+    }
+
+    @Override
+    public Mono<EmployeeSnapshot> snapshot() {
+        return Mono.defer(() -> snapshotStore.current().map(Mono::just).orElseGet(this::loadSnapshot))
+                .onErrorResume(CallNotPermittedException.class, e -> snapshotStore
+                        .lastKnownGood()
+                        .map(snapshot -> StaleResponses.markDeferred(snapshot.getLoadedAt(), snapshot))
+                        .orElseGet(() -> Mono.error(upstreamUnavailable(e))))
+                .flatMap(snapshot ->
+                        ServedSnapshots.markDeferred(snapshot.getVersion(), snapshot.getLoadedAt(), snapshot));
+    }
+
+    private Mono<EmployeeSnapshot> loadSnapshot() {
+        return singleFlight.executeMono("fetchAll", ALL_EMPLOYEES, () -> Mono.defer(() -> {
+            long fetchStartedAt = snapshotStore.beginFetch();
+            return employeeApiClient.fetchAll().map(EmployeeSnapshot::of).map(snapshot -> {
+                log.info("Successfully fetched {} employees (snapshot v{})", snapshot.size(), snapshot.getVersion());
+                return snapshotStore.publish(snapshot, fetchStartedAt);
+            });
+        }));
+    }
+
+    @Override
+    public Mono<Employee> fetchById(String id) {
+        return Mono.defer(() -> {
+            Optional<Employee> local = snapshotStore.current().flatMap(snapshot -> snapshot.findById(id));
+            if (local.isPresent()) {
+                return Mono.just(local.get());
+            }
+            Employee cached = employeeByIdCache.get(id, Employee.class);
+            if (cached != null) {
+                return Mono.just(cached);
+            }
+            return singleFlight
+                    .executeMono("fetchById", id, () -> employeeApiClient
+                            .fetchById(id)
+                            .doOnNext(employee -> {
+                                snapshotStore.rememberEmployee(employee);
+                                employeeByIdCache.put(id, employee);
+                            }))
+                    .onErrorResume(CallNotPermittedException.class, e -> snapshotStore
+                            .lastKnownEmployee(id)
+                            .map(lastKnown -> StaleResponses.markDeferred(lastKnown.loadedAt(), lastKnown.employee()))
+                            .orElseGet(() -> Mono.error(upstreamUnavailable(e))));
+        });
+    }
+
+    @Override
+    public Mono<List<EmployeeLookupDTO>> fetchByIds(List<String> ids) {
+        return Mono.defer(() -> {
+            Map<String, Employee> found = new HashMap<>();
+            List<String> misses = EmployeeServiceImpl.findCached(snapshotStore, ids, found);
+            if (misses.isEmpty()) {
+                return Mono.just(EmployeeServiceImpl.lookupResults(ids, found, HttpStatus.NOT_FOUND));
+            }
+            // A cached roster may predate employees created since, so it is reloaded rather than trusted about
+            // absent ids, unless it was fetched too recently to be worth it
+            Mono<EmployeeSnapshot> roster = EmployeeServiceImpl.reloadable(snapshotStore.current(), minReloadAgeMillis)
+                    ? loadSnapshot()
+                    : snapshot();
+            return roster
+                    .map(snapshot -> {
+                        misses.forEach(id -> snapshot.findById(id).ifPresent(employee -> found.put(id, employee)));
+                        return EmployeeServiceImpl.lookupResults(ids, found, HttpStatus.NOT_FOUND);
+                    })
+                    .onErrorResume(
+                            ApiException.class,
+                            e -> Mono.just(EmployeeServiceImpl.lookupResults(ids, found, e.getStatus())))
+                    .onErrorResume(CallNotPermittedException.class, e -> Mono.just(
+                            EmployeeServiceImpl.lookupResults(ids, found, HttpStatus.SERVICE_UNAVAILABLE)));
+        });
+    }
+
+    @Override
+    public Mono<List<Employee>> searchByName(String name) {
+        return snapshot().map(snapshot -> snapshot.searchByName(name));
+    }
+
+    @Override
+    public Mono<List<String>> getTopTenEmployeeNamesBySalary() {
+        return snapshot().map(snapshot -> snapshot.getTopEarnerNames(EmployeeSnapshot.TOP_EARNERS_LIMIT));
+    }
+
+    @Override
+    public Mono<List<Employee>> getTopEarners(int k) {
+        return Mono.fromRunnable(() -> EmployeeServiceImpl.validateTopEarnersCount(k))
+                .then(snapshot())
+                .map(snapshot -> snapshot.getTopEarners(k));
+    }
+
+    @Override
+    public Mono<Integer> getHighestSalary() {
+        return snapshot().map(EmployeeSnapshot::getHighestSalary);
+    }
+
+    @Override
+    public Mono<SalaryStatsDTO> getSalaryStats() {
+        return snapshot().map(EmployeeSnapshot::getSalaryStats);
+    }
+
+    @Override
+    public Mono<Employee> create(EmployeeCreateRequest createRequest) {
+        return employeeApiClient.create(createRequest).doOnSuccess(snapshotStore::applyCreated);
+    }
+
+    @Override
+    public Mono<List<EmployeeCreateResultDTO>> createAll(List<EmployeeCreateRequest> createRequests) {
+        return bulkCreator.createAll(createRequests);
+    }
+
+    @Override
+    public Mono<String> deleteById(String id) {
+        // Only an id missing from the caches costs an extra upstream call to learn the name; the lookup and the
+        // delete then share one deadline
+        Mono<Employee> known =
+                Mono.defer(() -> snapshotStore.findCached(id).map(Mono::just).orElseGet(() -> fetchById(id)));
+        return retryEngine.withDeadline(known.flatMap(employee -> employeeApiClient
+                .deleteByName(id, employee.name())
+                .doOnSuccess(name -> snapshotStore.applyDeleted(employee))));
+    }
+
+    private static ApiException upstreamUnavailable(CallNotPermittedException cause) {
+        log.warn("Upstream circuit breaker is open and no last-known-good data is available: {}", cause.getMessage());
+        return new ApiException("Service Unavailable, try after some time", HttpStatus.SERVICE_UNAVAILABLE);
+    }
+}
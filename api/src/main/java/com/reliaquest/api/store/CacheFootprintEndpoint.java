@@ -0,0 +1,100 @@
+package com.reliaquest.api.store;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code /actuator/cachefootprint}: the estimated heap held by the employees in each cache, by the cached snapshots'
+ * {@link EmployeeColumns} and by the {@link EmployeeInterner} title and email domain dictionaries. Each estimate counts
+ * what it references on its own. The columns are what each snapshot spends on top of its employees to run aggregates
+ * and filters over primitive arrays. The total counts every object once, so its shortfall against the sum of the parts
+ * is what sharing the same instances saves, net of the dictionaries' own entries. The snapshots' other indexes are not
+ * included.
+ *
+ * <p>The report walks every cached employee, so it is computed on request only.
+ */
+@Component
+@Endpoint(id = "cachefootprint")
+public class CacheFootprintEndpoint {
+
+    private final CacheManager cacheManager;
+    private final EmployeeInterner interner;
+
+    public CacheFootprintEndpoint(CacheManager cacheManager, EmployeeInterner interner) {
+        this.cacheManager = cacheManager;
+        this.interner = interner;
+    }
+
+    public record Footprint(long entries, long employees, long estimatedBytes) {}
+
+    public record Report(
+            Map<String, Footprint> caches, Footprint snapshotColumns, Footprint interner, Footprint total) {}
+
+    @ReadOperation
+    public Report footprint() {
+        Map<String, Footprint> caches = new LinkedHashMap<>();
+        HeapEstimate total = new HeapEstimate();
+        HeapEstimate columns = new HeapEstimate();
+        long snapshots = 0;
+        long totalEntries = 0;
+        for (String name : List.of(
+                EmployeeSnapshotStore.BY_ID_CACHE_NAME,
+                EmployeeSnapshotStore.SEARCH_CACHE_NAME,
+                EmployeeSnapshotStore.CACHE_NAME)) {
+            Map<?, ?> entries = entriesOf(cacheManager.getCache(name));
+            HeapEstimate estimate = new HeapEstimate();
+            for (Object value : entries.values()) {
+                add(estimate, value);
+                add(total, value);
+                if (value instanceof EmployeeSnapshot snapshot) {
+                    columns.addColumns(snapshot.columns());
+                    total.addColumns(snapshot.columns());
+                    snapshots++;
+                }
+            }
+            caches.put(name, new Footprint(entries.size(), estimate.employees(), estimate.bytes()));
+            totalEntries += entries.size();
+        }
+        Set<String> titles = interner.titles();
+        Set<String> domains = interner.domains();
+        HeapEstimate dictionaries = new HeapEstimate();
+        dictionaries.addInterned(titles);
+        dictionaries.addInterned(domains);
+        total.addInterned(titles);
+        total.addInterned(domains);
+        long interned = titles.size() + domains.size();
+        totalEntries += interned;
+        return new Report(
+                caches,
+                new Footprint(snapshots, 0, columns.bytes()),
+                new Footprint(interned, 0, dictionaries.bytes()),
+                new Footprint(totalEntries, total.employees(), total.bytes()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void add(HeapEstimate estimate, Object value) {
+        if (value instanceof Employee employee) {
+            estimate.addEmployee(employee);
+        } else if (value instanceof EmployeeSnapshot snapshot) {
+            estimate.addList(snapshot.getEmployees());
+        } else if (value instanceof List<?> list) {
+            estimate.addList((List<Employee>) list);
+        }
+    }
+
+    private static Map<?, ?> entriesOf(Cache cache) {
+        Objects.requireNonNull(cache, "Employee caches are not configured");
+        if (cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache) {
+            return nativeCache.asMap();
+        }
+        return Map.of();
+    }
+}
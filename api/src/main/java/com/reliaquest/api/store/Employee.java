@@ -0,0 +1,40 @@
+package com.reliaquest.api.store;
+
+import com.reliaquest.api.dto.EmployeeDTO;
+import java.util.List;
+
+/**
+ * The immutable form in which the service holds an employee: the snapshot, the by-id cache and cached search results
+ * all share these instances. Salary and age are unboxed, and the email is split at its last {@code @} so that the
+ * domain, like the title, can be one canonical {@code String} for every employee that shares it. Instances are built
+ * by {@link EmployeeInterner} and turned back into an {@link EmployeeDTO} only when a response is written.
+ *
+ * @param salary the salary, or {@link #MISSING}
+ * @param age the age, or {@link #MISSING}
+ * @param emailDomain the part of the email after its last {@code @}, or null if the email has none
+ */
+public record Employee(
+        String id, String name, int salary, int age, String title, String emailLocalPart, String emailDomain) {
+
+    /** Stands in for a salary or age the upstream did not send; neither is ever negative. */
+    public static final int MISSING = -1;
+
+    public String email() {
+        return emailDomain == null ? emailLocalPart : emailLocalPart + '@' + emailDomain;
+    }
+
+    public EmployeeDTO toDto() {
+        EmployeeDTO dto = new EmployeeDTO();
+        dto.setId(id);
+        dto.setName(name);
+        dto.setSalary(salary == MISSING ? null : salary);
+        dto.setAge(age == MISSING ? null : age);
+        dto.setTitle(title);
+        dto.setEmail(email());
+        return dto;
+    }
+
+    public static List<EmployeeDTO> toDtos(List<Employee> employees) {
+        return employees.stream().map(Employee::toDto).toList();
+    }
+}
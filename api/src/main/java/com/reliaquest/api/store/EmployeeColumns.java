@@ -0,0 +1,190 @@
+package com.reliaquest.api.store;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The numeric attributes of a roster laid out column by column, aligned with the roster's order. Salaries and ages
+ * are copied into {@code int[]}, and titles are dictionary-encoded as {@code int} codes. Aggregates and filters then
+ * run as tight loops over primitive arrays, with no per-employee pointer chasing.
+ *
+ * <p>Like the rest of the snapshot, the columns are copy-on-write: {@link #withAdded} and {@link #withRemoved} copy
+ * every column, so a write is O(n).
+ *
+ * <p>A missing salary counts as 0, as everywhere else in the snapshot. A missing age stays {@link Employee#MISSING}
+ * and never satisfies an age bound.
+ */
+final class EmployeeColumns {
+
+    private static final int NO_TITLE = -1;
+
+    private final int[] salaries;
+    private final int[] ages;
+    private final int[] titleCodes;
+    private final String[] titles;
+    private final Map<String, Integer> codesByTitle;
+
+    private EmployeeColumns(
+            int[] salaries, int[] ages, int[] titleCodes, String[] titles, Map<String, Integer> codesByTitle) {
+        this.salaries = salaries;
+        this.ages = ages;
+        this.titleCodes = titleCodes;
+        this.titles = titles;
+        this.codesByTitle = codesByTitle;
+    }
+
+    static EmployeeColumns of(List<Employee> employees) {
+        int size = employees.size();
+        int[] salaries = new int[size];
+        int[] ages = new int[size];
+        int[] titleCodes = new int[size];
+        Map<String, Integer> codesByTitle = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            Employee employee = employees.get(i);
+            salaries[i] = salaryOf(employee);
+            ages[i] = employee.age();
+            titleCodes[i] = employee.title() == null
+                    ? NO_TITLE
+                    : codesByTitle.computeIfAbsent(employee.title(), title -> codesByTitle.size());
+        }
+        return new EmployeeColumns(salaries, ages, titleCodes, dictionary(codesByTitle), codesByTitle);
+    }
+
+    /**
+     * Appends {@code employee}, as {@link EmployeeSnapshot#withAdded} appends it to the roster.
+     */
+    EmployeeColumns withAdded(Employee employee) {
+        int size = salaries.length;
+        int[] addedSalaries = Arrays.copyOf(salaries, size + 1);
+        int[] addedAges = Arrays.copyOf(ages, size + 1);
+        int[] addedTitleCodes = Arrays.copyOf(titleCodes, size + 1);
+        addedSalaries[size] = salaryOf(employee);
+        addedAges[size] = employee.age();
+
+        String title = employee.title();
+        if (title == null) {
+            addedTitleCodes[size] = NO_TITLE;
+            return new EmployeeColumns(addedSalaries, addedAges, addedTitleCodes, titles, codesByTitle);
+        }
+        Integer code = codesByTitle.get(title);
+        if (code != null) {
+            addedTitleCodes[size] = code;
+            return new EmployeeColumns(addedSalaries, addedAges, addedTitleCodes, titles, codesByTitle);
+        }
+        // A new title extends a copy of the dictionary; the current one may be shared with earlier versions
+        Map<String, Integer> addedCodes = new HashMap<>(codesByTitle);
+        addedCodes.put(title, titles.length);
+        addedTitleCodes[size] = titles.length;
+        return new EmployeeColumns(addedSalaries, addedAges, addedTitleCodes, dictionary(addedCodes), addedCodes);
+    }
+
+    /**
+     * Drops the employee at {@code index}, keeping the others in order. The dictionary is kept as is; a title nobody
+     * holds any more simply matches no one.
+     */
+    EmployeeColumns withRemoved(int index) {
+        return new EmployeeColumns(
+                without(salaries, index), without(ages, index), without(titleCodes, index), titles, codesByTitle);
+    }
+
+    int size() {
+        return salaries.length;
+    }
+
+    int titleCount() {
+        return titles.length;
+    }
+
+    int highestSalary() {
+        int highest = 0;
+        for (int salary : salaries) {
+            highest = Math.max(highest, salary);
+        }
+        return highest;
+    }
+
+    int lowestSalary() {
+        if (salaries.length == 0) {
+            return 0;
+        }
+        int lowest = Integer.MAX_VALUE;
+        for (int salary : salaries) {
+            lowest = Math.min(lowest, salary);
+        }
+        return lowest;
+    }
+
+    long totalSalary() {
+        long total = 0;
+        for (int salary : salaries) {
+            total += salary;
+        }
+        return total;
+    }
+
+    /**
+     * Positions, in roster order, of the employees within every given bound. A null bound is open and a null title
+     * matches any title; titles compare ignoring case.
+     */
+    int[] matching(String title, Integer minSalary, Integer maxSalary, Integer minAge, Integer maxAge) {
+        boolean[] titleAccepted = null;
+        if (title != null) {
+            titleAccepted = new boolean[titles.length];
+            boolean anyTitle = false;
+            for (int code = 0; code < titles.length; code++) {
+                titleAccepted[code] = titles[code].equalsIgnoreCase(title);
+                anyTitle |= titleAccepted[code];
+            }
+            if (!anyTitle) {
+                return new int[0];
+            }
+        }
+        int salaryFloor = minSalary == null ? Integer.MIN_VALUE : minSalary;
+        int salaryCeiling = maxSalary == null ? Integer.MAX_VALUE : maxSalary;
+        boolean ageBounded = minAge != null || maxAge != null;
+        int ageFloor = minAge == null ? 0 : minAge;
+        int ageCeiling = maxAge == null ? Integer.MAX_VALUE : maxAge;
+
+        int[] matches = new int[salaries.length];
+        int count = 0;
+        for (int i = 0; i < salaries.length; i++) {
+            int salary = salaries[i];
+            if (salary < salaryFloor || salary > salaryCeiling) {
+                continue;
+            }
+            if (ageBounded) {
+                int age = ages[i];
+                if (age == Employee.MISSING || age < ageFloor || age > ageCeiling) {
+                    continue;
+                }
+            }
+            if (titleAccepted != null) {
+                int code = titleCodes[i];
+                if (code == NO_TITLE || !titleAccepted[code]) {
+                    continue;
+                }
+            }
+            matches[count++] = i;
+        }
+        return Arrays.copyOf(matches, count);
+    }
+
+    private static String[] dictionary(Map<String, Integer> codesByTitle) {
+        String[] titles = new String[codesByTitle.size()];
+        codesByTitle.forEach((title, code) -> titles[code] = title);
+        return titles;
+    }
+
+    private static int[] without(int[] column, int index) {
+        int[] remaining = new int[column.length - 1];
+        System.arraycopy(column, 0, remaining, 0, index);
+        System.arraycopy(column, index + 1, remaining, index, column.length - index - 1);
+        return remaining;
+    }
+
+    private static int salaryOf(Employee employee) {
+        return employee.salary() == Employee.MISSING ? 0 : employee.salary();
+    }
+}
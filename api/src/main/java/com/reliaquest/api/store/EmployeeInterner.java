@@ -0,0 +1,70 @@
+package com.reliaquest.api.store;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.reliaquest.api.dto.EmployeeDTO;
+import java.util.Set;
+import org.springframework.stereotype.Component;
+
+/**
+ * Turns employees entering the service into {@link Employee} records whose titles and email domains are canonical, so
+ * that the roster, the by-id cache and the restored snapshot hold one {@code String} per distinct title and domain
+ * instead of one per employee.
+ *
+ * <p>Each dictionary holds at most {@value #MAX_ENTRIES} values. Past that, the least used ones are evicted and simply
+ * stop being shared; employees stay correct either way.
+ */
+@Component
+public class EmployeeInterner {
+
+    static final int MAX_ENTRIES = 10_000;
+
+    private final Cache<String, String> titles = Caffeine.newBuilder().maximumSize(MAX_ENTRIES).build();
+    private final Cache<String, String> domains = Caffeine.newBuilder().maximumSize(MAX_ENTRIES).build();
+
+    /**
+     * The record for a freshly decoded employee, or null for null.
+     */
+    public Employee intern(EmployeeDTO employee) {
+        if (employee == null) {
+            return null;
+        }
+        return intern(
+                employee.getId(),
+                employee.getName(),
+                employee.getSalary(),
+                employee.getAge(),
+                employee.getTitle(),
+                employee.getEmail());
+    }
+
+    Employee intern(String id, String name, Integer salary, Integer age, String title, String email) {
+        String localPart = email;
+        String domain = null;
+        int at = email == null ? -1 : email.lastIndexOf('@');
+        if (at >= 0) {
+            localPart = email.substring(0, at);
+            domain = canonical(domains, email.substring(at + 1));
+        }
+        return new Employee(
+                id,
+                name,
+                salary == null ? Employee.MISSING : salary,
+                age == null ? Employee.MISSING : age,
+                canonical(titles, title),
+                localPart,
+                domain);
+    }
+
+    Set<String> titles() {
+        return Set.copyOf(titles.asMap().keySet());
+    }
+
+    Set<String> domains() {
+        return Set.copyOf(domains.asMap().keySet());
+    }
+
+    private static String canonical(Cache<String, String> dictionary, String value) {
+        return value == null ? null : dictionary.get(value, key -> key);
+    }
+}
@@ -0,0 +1,377 @@
+package com.reliaquest.api.store;
+
+import com.reliaquest.api.dto.EmployeeFilter;
+import com.reliaquest.api.dto.SalaryStatsDTO;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Immutable, versioned view of the employee roster as returned by one upstream fetch. Every aggregate is computed when
+ * the snapshot is built, over the primitive {@link EmployeeColumns} of the roster, so read paths never re-scan or
+ * re-sort the list.
+ *
+ * <p>Local writes derive a new version with {@link #withAdded} and {@link #withRemoved}. These are copy-on-write: the
+ * roster, the by-id map, the columns and the name index are copied, so each write costs O(n) time and memory. What
+ * they save over a rebuild is the re-derivation: the aggregates are adjusted by the changed employee, and only the
+ * changed name is tokenized. The result keeps the fetch time of the snapshot it came from, so the refresh schedule is
+ * unaffected.
+ */
+public final class EmployeeSnapshot {
+
+    public static final int TOP_EARNERS_LIMIT = 10;
+    public static final int MAX_TOP_EARNERS = TopEarners.MAX_K;
+
+    static final int INCREMENTAL_BATCH_LIMIT = 16;
+
+    private static final AtomicLong VERSIONS = new AtomicLong();
+
+    private final long version;
+    private final Instant loadedAt;
+    private final List<Employee> employees;
+    private final Map<String, Employee> byId;
+    private final int highestSalary;
+    private final int lowestSalary;
+    private final long totalSalary;
+    private final EmployeeColumns columns;
+    private final TopEarners topEarners;
+    private final SalarySketch salarySketch;
+    private final NameSearchIndex nameIndex;
+    // Derived on first request; racing readers compute the same value
+    private volatile SalaryStatsDTO salaryStats;
+    private volatile Employee[] sortedById;
+
+    private EmployeeSnapshot(
+            Instant loadedAt,
+            List<Employee> employees,
+            Map<String, Employee> byId,
+            int highestSalary,
+            int lowestSalary,
+            long totalSalary,
+            EmployeeColumns columns,
+            TopEarners topEarners,
+            SalarySketch salarySketch,
+            NameSearchIndex nameIndex) {
+        this.version = VERSIONS.incrementAndGet();
+        this.loadedAt = loadedAt;
+        this.employees = employees;
+        this.byId = byId;
+        this.highestSalary = highestSalary;
+        this.lowestSalary = lowestSalary;
+        this.totalSalary = totalSalary;
+        this.columns = columns;
+        this.topEarners = topEarners;
+        this.salarySketch = salarySketch;
+        this.nameIndex = nameIndex;
+    }
+
+    private EmployeeSnapshot(EmployeeSnapshot source, Instant loadedAt) {
+        this.version = source.version;
+        this.loadedAt = loadedAt;
+        this.employees = source.employees;
+        this.byId = source.byId;
+        this.highestSalary = source.highestSalary;
+        this.lowestSalary = source.lowestSalary;
+        this.totalSalary = source.totalSalary;
+        this.columns = source.columns;
+        this.topEarners = source.topEarners;
+        this.salarySketch = source.salarySketch;
+        this.nameIndex = source.nameIndex;
+        this.salaryStats = source.salaryStats;
+        this.sortedById = source.sortedById;
+    }
+
+    public static EmployeeSnapshot of(List<Employee> source) {
+        return build(source, Instant.now());
+    }
+
+    static EmployeeSnapshot build(List<Employee> source, Instant loadedAt) {
+        List<Employee> employees = List.copyOf(source);
+        Map<String, Employee> byId = new HashMap<>(Math.max(16, employees.size() * 4 / 3 + 1));
+        for (Employee employee : employees) {
+            if (employee.id() != null) {
+                byId.put(employee.id(), employee);
+            }
+        }
+        EmployeeColumns columns = EmployeeColumns.of(employees);
+
+        return new EmployeeSnapshot(
+                loadedAt,
+                employees,
+                Collections.unmodifiableMap(byId),
+                columns.highestSalary(),
+                columns.lowestSalary(),
+                columns.totalSalary(),
+                columns,
+                TopEarners.of(employees),
+                SalarySketch.of(employees),
+                NameSearchIndex.build(employees));
+    }
+
+    /**
+     * Returns a snapshot that also holds {@code employee}, appended after the existing roster. An employee with the
+     * same id is replaced.
+     */
+    public EmployeeSnapshot withAdded(Employee employee) {
+        if (employee.id() != null && byId.containsKey(employee.id())) {
+            return withRemoved(employee.id()).withAdded(employee);
+        }
+
+        List<Employee> added = new ArrayList<>(employees.size() + 1);
+        added.addAll(employees);
+        added.add(employee);
+        Map<String, Employee> addedById = new HashMap<>(byId);
+        if (employee.id() != null) {
+            addedById.put(employee.id(), employee);
+        }
+
+        int salary = salaryOf(employee);
+        return new EmployeeSnapshot(
+                loadedAt,
+                Collections.unmodifiableList(added),
+                Collections.unmodifiableMap(addedById),
+                Math.max(highestSalary, salary),
+                employees.isEmpty() ? salary : Math.min(lowestSalary, salary),
+                totalSalary + salary,
+                columns.withAdded(employee),
+                topEarners.withAdded(employee),
+                salarySketch.withAdded(employee),
+                nameIndex.withAdded(employee));
+    }
+
+    /**
+     * Returns a snapshot that also holds every employee in {@code added}, in order, as if each were added with
+     * {@link #withAdded}. Each incremental add copies the roster, so a larger batch is applied with one rebuild.
+     */
+    public EmployeeSnapshot withAddedAll(List<Employee> added) {
+        if (added.size() <= INCREMENTAL_BATCH_LIMIT) {
+            EmployeeSnapshot snapshot = this;
+            for (Employee employee : added) {
+                snapshot = snapshot.withAdded(employee);
+            }
+            return snapshot;
+        }
+
+        Map<String, Employee> addedById = new HashMap<>();
+        for (Employee employee : added) {
+            if (employee.id() != null) {
+                addedById.put(employee.id(), employee);
+            }
+        }
+        List<Employee> roster = new ArrayList<>(employees.size() + added.size());
+        for (Employee employee : employees) {
+            if (employee.id() == null || !addedById.containsKey(employee.id())) {
+                roster.add(employee);
+            }
+        }
+        for (Employee employee : added) {
+            // A later entry with the same id replaces an earlier one, as repeated withAdded calls would
+            if (employee.id() == null || addedById.get(employee.id()) == employee) {
+                roster.add(employee);
+            }
+        }
+        return build(roster, loadedAt);
+    }
+
+    /**
+     * Returns a snapshot without the employee with {@code id}, or this snapshot if there is no such employee.
+     */
+    public EmployeeSnapshot withRemoved(String id) {
+        Employee removed = byId.get(id);
+        if (removed == null) {
+            return this;
+        }
+
+        List<Employee> remaining = new ArrayList<>(employees.size() - 1);
+        int removedIndex = -1;
+        for (int i = 0; i < employees.size(); i++) {
+            Employee employee = employees.get(i);
+            if (employee == removed) {
+                removedIndex = i;
+            } else {
+                remaining.add(employee);
+            }
+        }
+        EmployeeColumns remainingColumns = columns.withRemoved(removedIndex);
+        Map<String, Employee> remainingById = new HashMap<>(byId);
+        remainingById.remove(id);
+
+        int salary = salaryOf(removed);
+        int highest = highestSalary;
+        int lowest = lowestSalary;
+        if (salary == highestSalary || salary == lowestSalary) {
+            // Only losing an extreme needs another look at the salaries
+            highest = remainingColumns.highestSalary();
+            lowest = remainingColumns.lowestSalary();
+        }
+
+        return new EmployeeSnapshot(
+                loadedAt,
+                Collections.unmodifiableList(remaining),
+                Collections.unmodifiableMap(remainingById),
+                highest,
+                lowest,
+                totalSalary - salary,
+                remainingColumns,
+                topEarners.withRemoved(removed, remaining),
+                salarySketch.withRemoved(removed),
+                nameIndex.withRemoved(removed));
+    }
+
+    /**
+     * Returns this roster, under the same version, as fetched again at {@code loadedAt}. Used when a reload finds
+     * nothing changed, so that responses validated against this version stay valid.
+     */
+    public EmployeeSnapshot withLoadedAt(Instant loadedAt) {
+        return new EmployeeSnapshot(this, loadedAt);
+    }
+
+    public static EmployeeSnapshot empty() {
+        return of(List.of());
+    }
+
+    private static int salaryOf(Employee employee) {
+        return employee.salary() == Employee.MISSING ? 0 : employee.salary();
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public Instant getLoadedAt() {
+        return loadedAt;
+    }
+
+    public List<Employee> getEmployees() {
+        return employees;
+    }
+
+    public int size() {
+        return employees.size();
+    }
+
+    EmployeeColumns columns() {
+        return columns;
+    }
+
+    public Optional<Employee> findById(String id) {
+        return Optional.ofNullable(byId.get(id));
+    }
+
+    public int getHighestSalary() {
+        return highestSalary;
+    }
+
+    public int getLowestSalary() {
+        return lowestSalary;
+    }
+
+    public long getTotalSalary() {
+        return totalSalary;
+    }
+
+    public double getAverageSalary() {
+        return employees.isEmpty() ? 0 : (double) totalSalary / employees.size();
+    }
+
+    public List<Employee> searchByName(String query) {
+        return nameIndex.search(query);
+    }
+
+    /**
+     * The employees that satisfy every bound of {@code filter}, in roster order. The scan runs over the salary, age
+     * and title columns and touches an employee object only once it matches.
+     */
+    public List<Employee> filter(EmployeeFilter filter) {
+        int[] matches = columns.matching(
+                filter.title(), filter.minSalary(), filter.maxSalary(), filter.minAge(), filter.maxAge());
+        List<Employee> matched = new ArrayList<>(matches.length);
+        for (int index : matches) {
+            matched.add(employees.get(index));
+        }
+        return Collections.unmodifiableList(matched);
+    }
+
+    /**
+     * The {@code k} highest earners, best first; {@code k} must not exceed {@link #MAX_TOP_EARNERS}.
+     */
+    public List<Employee> getTopEarners(int k) {
+        return topEarners.top(k);
+    }
+
+    public List<String> getTopEarnerNames(int limit) {
+        return topEarners.top(limit).stream().map(Employee::name).toList();
+    }
+
+    /**
+     * Up to {@code limit} employees ordered by id, starting after {@code afterId} or from the first id if it is null.
+     * Employees without an id are not listed. {@code afterId} need not be in this snapshot, so a page boundary taken
+     * from an earlier version still continues in order without repeating anyone.
+     */
+    public List<Employee> getEmployeesAfterId(String afterId, int limit) {
+        Employee[] sorted = sortedById;
+        if (sorted == null) {
+            sorted = byId.values().stream()
+                    .sorted(Comparator.comparing(Employee::id))
+                    .toArray(Employee[]::new);
+            sortedById = sorted;
+        }
+
+        int from = 0;
+        if (afterId != null) {
+            int low = 0;
+            int high = sorted.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (sorted[mid].id().compareTo(afterId) <= 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            from = low;
+        }
+        int to = (int) Math.min(sorted.length, (long) from + limit);
+        return Collections.unmodifiableList(Arrays.asList(sorted).subList(from, to));
+    }
+
+    public SalaryStatsDTO getSalaryStats() {
+        SalaryStatsDTO stats = salaryStats;
+        if (stats == null) {
+            stats = salaryStatsOf();
+            salaryStats = stats;
+        }
+        return stats;
+    }
+
+    private SalaryStatsDTO salaryStatsOf() {
+        int[] counts = salarySketch.histogram();
+        int[] bounds = SalarySketch.HISTOGRAM_BOUNDS;
+        List<SalaryStatsDTO.SalaryBucket> histogram = new ArrayList<>(bounds.length);
+        for (int i = 0; i < bounds.length; i++) {
+            Integer upperBound = i + 1 < bounds.length ? bounds[i + 1] : null;
+            histogram.add(new SalaryStatsDTO.SalaryBucket(bounds[i], upperBound, counts[i]));
+        }
+        return new SalaryStatsDTO(
+                employees.size(),
+                lowestSalary,
+                highestSalary,
+                getAverageSalary(),
+                salaryQuantile(0.5),
+                salaryQuantile(0.9),
+                salaryQuantile(0.99),
+                List.copyOf(histogram));
+    }
+
+    private int salaryQuantile(double q) {
+        // The extremes are exact, so an estimate never reports a salary outside them
+        return Math.max(lowestSalary, Math.min(highestSalary, salarySketch.quantile(q)));
+    }
+}
@@ -0,0 +1,161 @@
+package com.reliaquest.api.store;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Reads and writes an {@link EmployeeSnapshot} as one compact binary file. The header holds a magic number, the format
+ * and a CRC32 of the payload. The payload holds the snapshot version, its fetch time and the employees.
+ *
+ * <p>A write goes to a temporary file that is then moved over the previous one, so a crash mid-write never leaves a
+ * torn file behind. A read maps the file and verifies the checksum before decoding any employee.
+ */
+public final class EmployeeSnapshotFile {
+
+    private static final int MAGIC = 0x454D5053;
+    private static final int FORMAT = 1;
+    private static final int HEADER_BYTES = 4 + 4 + 8 + 4;
+    private static final int NULL_LENGTH = -1;
+
+    private EmployeeSnapshotFile() {}
+
+    /**
+     * The snapshot read from disk. It is rebuilt under a new process-local version; {@code version} is the one it was
+     * saved under.
+     */
+    public record Restored(EmployeeSnapshot snapshot, long version) {}
+
+    public static void write(Path path, EmployeeSnapshot snapshot) throws IOException {
+        ByteArrayOutputStream payloadBytes = new ByteArrayOutputStream(64 + snapshot.size() * 96);
+        DataOutputStream payload = new DataOutputStream(payloadBytes);
+        payload.writeLong(snapshot.getVersion());
+        payload.writeLong(snapshot.getLoadedAt().toEpochMilli());
+        List<Employee> employees = snapshot.getEmployees();
+        payload.writeInt(employees.size());
+        for (Employee employee : employees) {
+            writeString(payload, employee.id());
+            writeString(payload, employee.name());
+            writeInteger(payload, employee.salary());
+            writeInteger(payload, employee.age());
+            writeString(payload, employee.title());
+            writeString(payload, employee.email());
+        }
+        payload.flush();
+        byte[] body = payloadBytes.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(body);
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES)
+                .putInt(MAGIC)
+                .putInt(FORMAT)
+                .putLong(crc.getValue())
+                .putInt(body.length)
+                .flip();
+
+        Path parent = path.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                channel.write(new ByteBuffer[] {header, ByteBuffer.wrap(body)});
+                channel.force(true);
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Reads the snapshot at {@code path}, canonicalizing its titles and email domains through {@code interner}.
+     *
+     * @throws IOException if the file cannot be read, is not a snapshot file, or fails its checksum
+     */
+    public static Restored read(Path path, EmployeeInterner interner) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES || size > Integer.MAX_VALUE) {
+                throw new IOException("Unexpected snapshot file size " + size);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT) {
+                throw new IOException("Not an employee snapshot file of format " + FORMAT);
+            }
+            long checksum = buffer.getLong();
+            int length = buffer.getInt();
+            if (length != buffer.remaining()) {
+                throw new IOException("Snapshot payload is " + buffer.remaining() + " bytes, expected " + length);
+            }
+            CRC32 crc = new CRC32();
+            crc.update(buffer.slice());
+            if (crc.getValue() != checksum) {
+                throw new IOException("Snapshot checksum mismatch");
+            }
+            return decode(buffer, interner);
+        } catch (RuntimeException e) {
+            // A checksummed payload can still be truncated by a format bug; never let that escape as a crash
+            throw new IOException("Malformed snapshot file", e);
+        }
+    }
+
+    private static Restored decode(ByteBuffer buffer, EmployeeInterner interner) {
+        long version = buffer.getLong();
+        Instant loadedAt = Instant.ofEpochMilli(buffer.getLong());
+        int count = buffer.getInt();
+        List<Employee> employees = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            employees.add(interner.intern(
+                    readString(buffer),
+                    readString(buffer),
+                    readInteger(buffer),
+                    readInteger(buffer),
+                    readString(buffer),
+                    readString(buffer)));
+        }
+        return new Restored(EmployeeSnapshot.build(employees, loadedAt), version);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeInteger(DataOutputStream out, int value) throws IOException {
+        out.writeBoolean(value != Employee.MISSING);
+        out.writeInt(value == Employee.MISSING ? 0 : value);
+    }
+
+    private static Integer readInteger(ByteBuffer buffer) {
+        boolean present = buffer.get() != 0;
+        int value = buffer.getInt();
+        return present ? value : null;
+    }
+}
@@ -0,0 +1,241 @@
+package com.reliaquest.api.store;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds the current {@link EmployeeSnapshot} in the {@code employeesAll} cache so that every read endpoint answers from
+ * the same version of the roster. Cached search results are derived from the snapshot and are dropped whenever a new
+ * snapshot replaces it.
+ *
+ * <p>Writes patch the roster in place. Only the by-id entry and the cached searches whose query matches the changed
+ * name are dropped, so a write never leaves the caches cold. Publishing and patching replace the snapshot under one
+ * lock, so a write is never applied to one copy of the roster and missed by the other.
+ *
+ * <p>A roster fetched from the upstream may predate writes applied while the fetch was running. Each write is therefore
+ * also logged under a sequence number, and a fetch takes a number from the same sequence with {@link #beginFetch}
+ * before it starts. Publishing the fetched roster replays every write logged after that number onto it, so a racing
+ * create is not dropped and a racing delete does not bring the employee back.
+ *
+ * <p>The store also keeps the last snapshot and by-id lookups that loaded successfully. Cache expiry and write
+ * evictions do not touch these, so reads can still be answered while the upstream is unavailable.
+ */
+@Component
+public class EmployeeSnapshotStore {
+
+    public static final String CACHE_NAME = "employeesAll";
+    public static final String SEARCH_CACHE_NAME = "searchByName";
+    public static final String BY_ID_CACHE_NAME = "employeeById";
+    private static final String SNAPSHOT_KEY = "snapshot";
+    // Well beyond the per-request retry deadline, which bounds how long a fetch can run
+    private static final Duration WRITE_LOG_RETENTION = Duration.ofMinutes(10);
+
+    private final Cache cache;
+    private final Cache searchCache;
+    private final Cache byIdCache;
+    private final Object writeLock = new Object();
+    private final AtomicReference<EmployeeSnapshot> lastKnownGood = new AtomicReference<>();
+    private final Map<String, LastKnownEmployee> lastKnownById = new ConcurrentHashMap<>();
+    // Guarded by writeLock
+    private final Deque<LoggedWrite> writeLog = new ArrayDeque<>();
+    private long sequence;
+    private long prunedThrough;
+    private long installedFetch;
+
+    public EmployeeSnapshotStore(CacheManager cacheManager) {
+        this.cache = requireCache(cacheManager, CACHE_NAME);
+        this.searchCache = requireCache(cacheManager, SEARCH_CACHE_NAME);
+        this.byIdCache = requireCache(cacheManager, BY_ID_CACHE_NAME);
+    }
+
+    public Optional<EmployeeSnapshot> current() {
+        return Optional.ofNullable(cache.get(SNAPSHOT_KEY, EmployeeSnapshot.class));
+    }
+
+    /**
+     * Starts a fetch of the roster and returns the sequence number to {@link #publish(EmployeeSnapshot, long)} it with.
+     */
+    public long beginFetch() {
+        synchronized (writeLock) {
+            return ++sequence;
+        }
+    }
+
+    /**
+     * Publishes a roster fetched after {@link #beginFetch} returned {@code fetchStartedAt}, with the writes applied
+     * since replayed onto it, and returns the snapshot now served. A snapshot from a fetch that started later is kept
+     * instead, as is the current one if the write log no longer reaches back to the start of this fetch. A roster
+     * equal to the current one only renews its fetch time, so its version, and the cached searches, stay valid.
+     */
+    public EmployeeSnapshot publish(EmployeeSnapshot fetched, long fetchStartedAt) {
+        synchronized (writeLock) {
+            Optional<EmployeeSnapshot> current = current();
+            if (current.isPresent() && (installedFetch > fetchStartedAt || prunedThrough > fetchStartedAt)) {
+                return current.get();
+            }
+            EmployeeSnapshot snapshot = fetched;
+            for (LoggedWrite write : writeLog) {
+                if (write.sequence() > fetchStartedAt) {
+                    snapshot = write.change().apply(snapshot);
+                }
+            }
+            if (current.isPresent() && current.get().getEmployees().equals(snapshot.getEmployees())) {
+                EmployeeSnapshot renewed = current.get().withLoadedAt(fetched.getLoadedAt());
+                installedFetch = fetchStartedAt;
+                lastKnownGood.set(renewed);
+                cache.put(SNAPSHOT_KEY, renewed);
+                return renewed;
+            }
+            install(snapshot, fetchStartedAt);
+            return snapshot;
+        }
+    }
+
+    /**
+     * Publishes a snapshot that was not fetched just now, such as one restored from disk, as it is. A fetch already
+     * running still replaces it when it completes.
+     */
+    public void publish(EmployeeSnapshot snapshot) {
+        synchronized (writeLock) {
+            install(snapshot, installedFetch);
+        }
+    }
+
+    public void applyCreated(Employee created) {
+        synchronized (writeLock) {
+            applyToSnapshots(snapshot -> snapshot.withAdded(created));
+        }
+        if (created.id() != null) {
+            byIdCache.put(created.id(), created);
+        }
+        rememberEmployee(created);
+        evictSearchesMatching(List.of(NameSearchIndex.normalize(created.name())));
+    }
+
+    /**
+     * Applies a batch of creates as a single write: one new snapshot version and one pass over the cached searches.
+     */
+    public void applyCreatedAll(List<Employee> created) {
+        if (created.isEmpty()) {
+            return;
+        }
+        synchronized (writeLock) {
+            applyToSnapshots(snapshot -> snapshot.withAddedAll(created));
+        }
+        List<String> normalizedNames = new ArrayList<>(created.size());
+        for (Employee employee : created) {
+            if (employee.id() != null) {
+                byIdCache.put(employee.id(), employee);
+            }
+            rememberEmployee(employee);
+            normalizedNames.add(NameSearchIndex.normalize(employee.name()));
+        }
+        evictSearchesMatching(normalizedNames);
+    }
+
+    public void applyDeleted(Employee deleted) {
+        synchronized (writeLock) {
+            applyToSnapshots(snapshot -> snapshot.withRemoved(deleted.id()));
+        }
+        byIdCache.evict(deleted.id());
+        lastKnownById.remove(deleted.id());
+        evictSearchesMatching(List.of(NameSearchIndex.normalize(deleted.name())));
+    }
+
+    /**
+     * Looks an employee up in the current snapshot, then the by-id cache, without calling the upstream. Last-known-good
+     * data is not consulted, so a hit is as fresh as a read through the service; that data only answers reads while
+     * the circuit breaker is open.
+     */
+    public Optional<Employee> findCached(String id) {
+        return current()
+                .flatMap(snapshot -> snapshot.findById(id))
+                .or(() -> Optional.ofNullable(byIdCache.get(id, Employee.class)));
+    }
+
+    public Optional<EmployeeSnapshot> lastKnownGood() {
+        return Optional.ofNullable(lastKnownGood.get());
+    }
+
+    /**
+     * Records an employee that was fetched on its own, outside any snapshot.
+     */
+    public void rememberEmployee(Employee employee) {
+        if (employee != null && employee.id() != null) {
+            lastKnownById.put(employee.id(), new LastKnownEmployee(employee, Instant.now()));
+        }
+    }
+
+    public Optional<LastKnownEmployee> lastKnownEmployee(String id) {
+        return lastKnownGood()
+                .flatMap(snapshot -> snapshot.findById(id)
+                        .map(employee -> new LastKnownEmployee(employee, snapshot.getLoadedAt())))
+                .or(() -> Optional.ofNullable(lastKnownById.get(id)));
+    }
+
+    /**
+     * Replaces both the cached and the last-known-good snapshot. Callers hold {@code writeLock}, so a concurrent write
+     * patches either the old pair or the new one, never one of each.
+     */
+    private void install(EmployeeSnapshot snapshot, long fetchStartedAt) {
+        installedFetch = fetchStartedAt;
+        lastKnownGood.set(snapshot);
+        // A newer roster is authoritative, including about employees that have since been deleted
+        lastKnownById.clear();
+        cache.put(SNAPSHOT_KEY, snapshot);
+        searchCache.clear();
+    }
+
+    private void applyToSnapshots(UnaryOperator<EmployeeSnapshot> change) {
+        EmployeeSnapshot lastKnown = lastKnownGood.get();
+        EmployeeSnapshot changedLastKnown = lastKnown == null ? null : change.apply(lastKnown);
+        current().ifPresent(snapshot ->
+                cache.put(SNAPSHOT_KEY, snapshot == lastKnown ? changedLastKnown : change.apply(snapshot)));
+        lastKnownGood.set(changedLastKnown);
+        logWrite(change);
+    }
+
+    private void logWrite(UnaryOperator<EmployeeSnapshot> change) {
+        Instant now = Instant.now();
+        writeLog.addLast(new LoggedWrite(++sequence, now, change));
+        Instant cutoff = now.minus(WRITE_LOG_RETENTION);
+        while (writeLog.peekFirst().loggedAt().isBefore(cutoff)) {
+            prunedThrough = writeLog.removeFirst().sequence();
+        }
+    }
+
+    /**
+     * Search results are cached under the normalized query, and a query's results change only if a name contains it.
+     */
+    private void evictSearchesMatching(List<String> normalizedNames) {
+        if (searchCache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache) {
+            nativeCache.asMap().keySet().removeIf(query -> {
+                String normalizedQuery = String.valueOf(query);
+                return normalizedNames.stream().anyMatch(name -> name.contains(normalizedQuery));
+            });
+        } else {
+            searchCache.clear();
+        }
+    }
+
+    public record LastKnownEmployee(Employee employee, Instant loadedAt) {}
+
+    private record LoggedWrite(long sequence, Instant loggedAt, UnaryOperator<EmployeeSnapshot> change) {}
+
+    private static Cache requireCache(CacheManager cacheManager, String name) {
+        return Objects.requireNonNull(cacheManager.getCache(name), "Cache '" + name + "' is not configured");
+    }
+}
@@ -0,0 +1,109 @@
+package com.reliaquest.api.store;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Estimates the heap held by employees, the lists holding them, snapshot columns and interned strings, counting every
+ * object once however many times it is reached. Sizes follow the 64-bit HotSpot layout with compressed references:
+ * 12-byte headers, 4-byte references and 8-byte alignment. Strings are assumed Latin-1 unless a character needs UTF-16.
+ */
+final class HeapEstimate {
+
+    private static final int HEADER = 12;
+    private static final int REFERENCE = 4;
+    private static final int ARRAY_HEADER = 16;
+    private static final int EMPLOYEE = align(HEADER + 5 * REFERENCE + 2 * 4);
+    private static final int STRING = align(HEADER + 4 + REFERENCE + 2);
+    private static final int INTEGER = align(HEADER + 4);
+    private static final int LIST = align(HEADER + 2 * REFERENCE);
+    private static final int COLUMNS = align(HEADER + 5 * REFERENCE);
+    private static final int HASH_MAP = align(HEADER + 4 * 4 + 4 * REFERENCE);
+    private static final int HASH_MAP_NODE = align(HEADER + 4 + 3 * REFERENCE);
+    // A bounded Caffeine entry: its node, the backing ConcurrentHashMap node and that map's table slot
+    private static final int INTERNED_ENTRY =
+            align(HEADER + 4 * REFERENCE + 4) + align(HEADER + 4 + 3 * REFERENCE) + REFERENCE;
+
+    private final Set<Object> counted = Collections.newSetFromMap(new IdentityHashMap<>());
+    private long bytes;
+    private long employees;
+
+    long bytes() {
+        return bytes;
+    }
+
+    long employees() {
+        return employees;
+    }
+
+    void addList(List<Employee> list) {
+        if (counted.add(list)) {
+            bytes += LIST + align(ARRAY_HEADER + (long) REFERENCE * list.size());
+        }
+        list.forEach(this::addEmployee);
+    }
+
+    void addEmployee(Employee employee) {
+        if (employee == null || !counted.add(employee)) {
+            return;
+        }
+        employees++;
+        bytes += EMPLOYEE;
+        addString(employee.id());
+        addString(employee.name());
+        addString(employee.title());
+        addString(employee.emailLocalPart());
+        addString(employee.emailDomain());
+    }
+
+    /**
+     * Adds a snapshot's columns: the salary, age and title code arrays and the title dictionary, both the array and the
+     * map from title to code. The title strings themselves belong to the employees and are not added.
+     */
+    void addColumns(EmployeeColumns columns) {
+        if (!counted.add(columns)) {
+            return;
+        }
+        int titles = columns.titleCount();
+        bytes += COLUMNS + 3L * align(ARRAY_HEADER + 4L * columns.size());
+        bytes += align(ARRAY_HEADER + (long) REFERENCE * titles);
+        bytes += HASH_MAP + align(ARRAY_HEADER + (long) REFERENCE * hashTableSize(titles));
+        bytes += (long) HASH_MAP_NODE * titles;
+        // Codes from 128 up are boxed outside the shared Integer cache
+        bytes += (long) INTEGER * Math.max(0, titles - 128);
+    }
+
+    /**
+     * Adds a dictionary of interned strings: one entry per string, plus each string unless it was already counted.
+     */
+    void addInterned(Collection<String> values) {
+        bytes += (long) INTERNED_ENTRY * values.size();
+        values.forEach(this::addString);
+    }
+
+    private void addString(String value) {
+        if (value == null || !counted.add(value)) {
+            return;
+        }
+        boolean latin1 = value.chars().allMatch(c -> c <= 0xFF);
+        bytes += STRING + align(ARRAY_HEADER + (long) value.length() * (latin1 ? 1 : 2));
+    }
+
+    private static int hashTableSize(int entries) {
+        if (entries == 0) {
+            return 0;
+        }
+        int size = 16;
+        while (size * 3 / 4 < entries) {
+            size <<= 1;
+        }
+        return size;
+    }
+
+    private static int align(long size) {
+        return (int) ((size + 7) & ~7L);
+    }
+}
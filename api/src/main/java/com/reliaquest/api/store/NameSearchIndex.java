@@ -0,0 +1,235 @@
+package com.reliaquest.api.store;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Trigram index over normalized employee names answering case-insensitive substring queries. Employees are held in a
+ * stable order (normalized name, then id) and every posting list is ascending in that order, so intersecting postings
+ * yields results that are already sorted.
+ *
+ * <p>{@link #withAdded} and {@link #withRemoved} derive a new index for a single write by copy-on-write, so a write is
+ * O(n) in the size of the index. Only the changed name is tokenized; every other posting list is copied and shifted
+ * around the affected position.
+ */
+public final class NameSearchIndex {
+
+    static final int GRAM_LENGTH = 3;
+
+    private static final Comparator<Employee> STABLE_ORDER = Comparator.comparing(
+                    (Employee e) -> normalize(e.name()))
+            .thenComparing(Employee::id, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private final Employee[] entries;
+    private final String[] normalizedNames;
+    private final Map<String, int[]> postings;
+
+    private NameSearchIndex(Employee[] entries, String[] normalizedNames, Map<String, int[]> postings) {
+        this.entries = entries;
+        this.normalizedNames = normalizedNames;
+        this.postings = postings;
+    }
+
+    public static NameSearchIndex build(List<Employee> employees) {
+        Employee[] entries = employees.toArray(new Employee[0]);
+        Arrays.sort(entries, STABLE_ORDER);
+
+        String[] normalizedNames = new String[entries.length];
+        Map<String, IntList> builders = new HashMap<>();
+        for (int position = 0; position < entries.length; position++) {
+            String name = normalize(entries[position].name());
+            normalizedNames[position] = name;
+            for (int i = 0; i + GRAM_LENGTH <= name.length(); i++) {
+                builders.computeIfAbsent(name.substring(i, i + GRAM_LENGTH), gram -> new IntList())
+                        .addDistinct(position);
+            }
+        }
+
+        Map<String, int[]> postings = new HashMap<>(Math.max(16, builders.size() * 4 / 3 + 1));
+        builders.forEach((gram, positions) -> postings.put(gram, positions.toArray()));
+        return new NameSearchIndex(entries, normalizedNames, postings);
+    }
+
+    public NameSearchIndex withAdded(Employee employee) {
+        int found = Arrays.binarySearch(entries, employee, STABLE_ORDER);
+        int position = found >= 0 ? found : -found - 1;
+        String name = normalize(employee.name());
+
+        Employee[] addedEntries = new Employee[entries.length + 1];
+        System.arraycopy(entries, 0, addedEntries, 0, position);
+        addedEntries[position] = employee;
+        System.arraycopy(entries, position, addedEntries, position + 1, entries.length - position);
+        String[] addedNames = new String[normalizedNames.length + 1];
+        System.arraycopy(normalizedNames, 0, addedNames, 0, position);
+        addedNames[position] = name;
+        System.arraycopy(normalizedNames, position, addedNames, position + 1, normalizedNames.length - position);
+
+        Set<String> grams = gramsOf(name);
+        Map<String, int[]> addedPostings = new HashMap<>(Math.max(16, (postings.size() + grams.size()) * 4 / 3 + 1));
+        postings.forEach(
+                (gram, positions) -> addedPostings.put(gram, shiftUp(positions, position, grams.contains(gram))));
+        for (String gram : grams) {
+            addedPostings.putIfAbsent(gram, new int[] {position});
+        }
+        return new NameSearchIndex(addedEntries, addedNames, addedPostings);
+    }
+
+    public NameSearchIndex withRemoved(Employee employee) {
+        int position = Arrays.binarySearch(entries, employee, STABLE_ORDER);
+        if (position < 0) {
+            return this;
+        }
+
+        Employee[] remainingEntries = new Employee[entries.length - 1];
+        System.arraycopy(entries, 0, remainingEntries, 0, position);
+        System.arraycopy(entries, position + 1, remainingEntries, position, entries.length - position - 1);
+        String[] remainingNames = new String[normalizedNames.length - 1];
+        System.arraycopy(normalizedNames, 0, remainingNames, 0, position);
+        System.arraycopy(
+                normalizedNames, position + 1, remainingNames, position, normalizedNames.length - position - 1);
+
+        Map<String, int[]> remainingPostings = new HashMap<>(Math.max(16, postings.size() * 4 / 3 + 1));
+        postings.forEach((gram, positions) -> {
+            int[] shifted = shiftDown(positions, position);
+            if (shifted.length > 0) {
+                remainingPostings.put(gram, shifted);
+            }
+        });
+        return new NameSearchIndex(remainingEntries, remainingNames, remainingPostings);
+    }
+
+    public static String normalize(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+
+    public List<Employee> search(String query) {
+        String normalizedQuery = normalize(query);
+        if (normalizedQuery.length() < GRAM_LENGTH) {
+            return scan(normalizedQuery);
+        }
+
+        int[][] lists = postingsFor(normalizedQuery);
+        if (lists == null) {
+            return List.of();
+        }
+
+        // Walk the shortest posting list and keep positions present in every other list; the final contains check
+        // rejects names that hold all trigrams of the query but not as one contiguous substring.
+        int[] shortest = lists[0];
+        int[] cursors = new int[lists.length];
+        List<Employee> matches = new ArrayList<>();
+        candidates:
+        for (int position : shortest) {
+            for (int l = 1; l < lists.length; l++) {
+                int found = Arrays.binarySearch(lists[l], cursors[l], lists[l].length, position);
+                if (found < 0) {
+                    cursors[l] = -found - 1;
+                    continue candidates;
+                }
+                cursors[l] = found + 1;
+            }
+            if (normalizedNames[position].contains(normalizedQuery)) {
+                matches.add(entries[position]);
+            }
+        }
+        return matches;
+    }
+
+    public int size() {
+        return entries.length;
+    }
+
+    private int[][] postingsFor(String normalizedQuery) {
+        Set<String> grams = gramsOf(normalizedQuery);
+
+        int[][] lists = new int[grams.size()][];
+        int i = 0;
+        for (String gram : grams) {
+            int[] positions = postings.get(gram);
+            if (positions == null) {
+                return null;
+            }
+            lists[i++] = positions;
+        }
+        Arrays.sort(lists, Comparator.comparingInt(list -> list.length));
+        return lists;
+    }
+
+    private static Set<String> gramsOf(String normalized) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= normalized.length(); i++) {
+            grams.add(normalized.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    /**
+     * Moves every position at or after {@code position} up by one, optionally inserting {@code position} itself.
+     */
+    private static int[] shiftUp(int[] positions, int position, boolean insert) {
+        int[] shifted = new int[positions.length + (insert ? 1 : 0)];
+        boolean pending = insert;
+        int out = 0;
+        for (int value : positions) {
+            if (pending && value >= position) {
+                shifted[out++] = position;
+                pending = false;
+            }
+            shifted[out++] = value >= position ? value + 1 : value;
+        }
+        if (pending) {
+            shifted[out] = position;
+        }
+        return shifted;
+    }
+
+    /**
+     * Drops {@code position} and moves every later position down by one.
+     */
+    private static int[] shiftDown(int[] positions, int position) {
+        int[] shifted = new int[positions.length];
+        int out = 0;
+        for (int value : positions) {
+            if (value != position) {
+                shifted[out++] = value > position ? value - 1 : value;
+            }
+        }
+        return out == shifted.length ? shifted : Arrays.copyOf(shifted, out);
+    }
+
+    private List<Employee> scan(String normalizedQuery) {
+        List<Employee> matches = new ArrayList<>();
+        for (int position = 0; position < entries.length; position++) {
+            if (normalizedNames[position].contains(normalizedQuery)) {
+                matches.add(entries[position]);
+            }
+        }
+        return matches;
+    }
+
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        void addDistinct(int value) {
+            if (size > 0 && values[size - 1] == value) {
+                return;
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.reliaquest.api.store;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Immutable salary distribution of a roster. Quantiles come from a log-bucketed sketch. Each salary is counted in the
+ * bucket {@code (g^(i-1), g^i]}, so an estimate is within {@link #RELATIVE_ACCURACY} of the true salary at that rank.
+ * The dashboard histogram keeps exact counts per fixed salary band.
+ *
+ * <p>Both are plain counters over fixed buckets. Sketches of two rosters merge by adding their counts, and a delete
+ * just takes one count away, so a write never needs the rest of the roster.
+ */
+final class SalarySketch {
+
+    static final double RELATIVE_ACCURACY = 0.01;
+
+    /** Lower bounds of the histogram bands; the last band is open-ended. */
+    static final int[] HISTOGRAM_BOUNDS = {0, 10_000, 20_000, 50_000, 100_000, 200_000, 500_000, 1_000_000};
+
+    private static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+    private static final double LOG_GAMMA = Math.log(GAMMA);
+    // Bucket 0 holds salaries of zero or less; bucket i > 0 holds (GAMMA^(i-2), GAMMA^(i-1)]
+    private static final int BUCKETS = bucketOf(Integer.MAX_VALUE) + 1;
+
+    private final int[] counts;
+    private final int[] histogram;
+    private final int total;
+
+    private SalarySketch(int[] counts, int[] histogram, int total) {
+        this.counts = counts;
+        this.histogram = histogram;
+        this.total = total;
+    }
+
+    static SalarySketch of(List<Employee> employees) {
+        int[] counts = new int[BUCKETS];
+        int[] histogram = new int[HISTOGRAM_BOUNDS.length];
+        for (Employee employee : employees) {
+            int salary = salaryOf(employee);
+            counts[bucketOf(salary)]++;
+            histogram[bandOf(salary)]++;
+        }
+        return new SalarySketch(counts, histogram, employees.size());
+    }
+
+    SalarySketch withAdded(Employee employee) {
+        return adjusted(salaryOf(employee), 1);
+    }
+
+    SalarySketch withRemoved(Employee employee) {
+        return adjusted(salaryOf(employee), -1);
+    }
+
+    /** Combines the distributions of two disjoint rosters. */
+    SalarySketch merge(SalarySketch other) {
+        int[] mergedCounts = counts.clone();
+        for (int i = 0; i < BUCKETS; i++) {
+            mergedCounts[i] += other.counts[i];
+        }
+        int[] mergedHistogram = histogram.clone();
+        for (int i = 0; i < mergedHistogram.length; i++) {
+            mergedHistogram[i] += other.histogram[i];
+        }
+        return new SalarySketch(mergedCounts, mergedHistogram, total + other.total);
+    }
+
+    /**
+     * Estimated salary at quantile {@code q} in [0, 1], using the nearest-rank definition; 0 for an empty roster.
+     */
+    int quantile(double q) {
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(q * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return valueOf(i);
+            }
+        }
+        return valueOf(BUCKETS - 1);
+    }
+
+    /** Exact number of employees in each band of {@link #HISTOGRAM_BOUNDS}. */
+    int[] histogram() {
+        return histogram.clone();
+    }
+
+    private SalarySketch adjusted(int salary, int delta) {
+        int[] adjustedCounts = counts.clone();
+        adjustedCounts[bucketOf(salary)] += delta;
+        int[] adjustedHistogram = histogram.clone();
+        adjustedHistogram[bandOf(salary)] += delta;
+        return new SalarySketch(adjustedCounts, adjustedHistogram, total + delta);
+    }
+
+    private static int bucketOf(int salary) {
+        return salary <= 0 ? 0 : 1 + (int) Math.ceil(Math.log(salary) / LOG_GAMMA);
+    }
+
+    private static int valueOf(int bucket) {
+        if (bucket == 0) {
+            return 0;
+        }
+        // The point with equal relative distance to both ends of (GAMMA^(i-2), GAMMA^(i-1)]
+        double upper = Math.pow(GAMMA, bucket - 1);
+        return (int) Math.min(Integer.MAX_VALUE, Math.round(2 * upper / (GAMMA + 1)));
+    }
+
+    private static int bandOf(int salary) {
+        int band = Arrays.binarySearch(HISTOGRAM_BOUNDS, salary);
+        return band >= 0 ? band : Math.max(0, -band - 2);
+    }
+
+    private static int salaryOf(Employee employee) {
+        return employee.salary() == Employee.MISSING ? 0 : employee.salary();
+    }
+}
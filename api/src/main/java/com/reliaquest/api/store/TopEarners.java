@@ -0,0 +1,118 @@
+package com.reliaquest.api.store;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Immutable ranking of the highest earners in a roster, best first, with equal salaries kept in roster order. It holds
+ * the exact top of the roster, up to twice {@link #MAX_K} employees, so a query for any {@code k <= MAX_K} is a prefix
+ * of the ranking.
+ *
+ * <p>A write only moves entries within the ranking. The roster is scanned again only when deletes have drained a
+ * ranking that did not hold the whole roster below {@code MAX_K} entries; the slack above {@code MAX_K} makes that
+ * rare.
+ */
+final class TopEarners {
+
+    static final int MAX_K = 1000;
+
+    private static final int CAPACITY = 2 * MAX_K;
+
+    private final Employee[] ranked;
+    // Whether the ranking holds the whole roster, in which case an employee ranking below every entry still belongs
+    private final boolean complete;
+
+    private TopEarners(Employee[] ranked, boolean complete) {
+        this.ranked = ranked;
+        this.complete = complete;
+    }
+
+    static TopEarners of(List<Employee> employees) {
+        int limit = Math.min(CAPACITY, employees.size());
+        // Min-heap of list positions holding the current top earners; on equal salaries the earlier position wins,
+        // which keeps the ordering identical to a stable descending sort.
+        Comparator<Integer> weakestFirst = Comparator.<Integer>comparingInt(i -> salaryOf(employees.get(i)))
+                .thenComparing(Comparator.reverseOrder());
+        PriorityQueue<Integer> top = new PriorityQueue<>(limit + 1, weakestFirst);
+
+        for (int i = 0; i < employees.size(); i++) {
+            if (top.size() < limit) {
+                top.add(i);
+            } else if (salaryOf(employees.get(i)) > salaryOf(employees.get(top.peek()))) {
+                top.poll();
+                top.add(i);
+            }
+        }
+
+        Employee[] ranked = new Employee[top.size()];
+        for (int rank = ranked.length - 1; rank >= 0; rank--) {
+            ranked[rank] = employees.get(top.poll());
+        }
+        return new TopEarners(ranked, ranked.length == employees.size());
+    }
+
+    /**
+     * Ranks {@code employee} as the newest member of the roster, so it comes after every earner with the same salary.
+     */
+    TopEarners withAdded(Employee employee) {
+        int salary = salaryOf(employee);
+        int rank = 0;
+        int high = ranked.length;
+        while (rank < high) {
+            int mid = (rank + high) >>> 1;
+            if (salaryOf(ranked[mid]) >= salary) {
+                rank = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        if (rank == ranked.length && !complete) {
+            // Untracked employees may rank between the last entry and the newcomer
+            return this;
+        }
+
+        boolean full = ranked.length == CAPACITY;
+        Employee[] added = new Employee[full ? CAPACITY : ranked.length + 1];
+        System.arraycopy(ranked, 0, added, 0, rank);
+        if (rank < added.length) {
+            added[rank] = employee;
+            System.arraycopy(ranked, rank, added, rank + 1, added.length - rank - 1);
+        }
+        return new TopEarners(added, complete && !full);
+    }
+
+    /**
+     * Drops {@code removed}; {@code remaining} is the roster without it, used only if the ranking must be rebuilt.
+     */
+    TopEarners withRemoved(Employee removed, List<Employee> remaining) {
+        int index = 0;
+        while (index < ranked.length && ranked[index] != removed) {
+            index++;
+        }
+        if (index == ranked.length) {
+            return this;
+        }
+        if (!complete && ranked.length - 1 < MAX_K) {
+            return of(remaining);
+        }
+
+        Employee[] kept = new Employee[ranked.length - 1];
+        System.arraycopy(ranked, 0, kept, 0, index);
+        System.arraycopy(ranked, index + 1, kept, index, kept.length - index);
+        return new TopEarners(kept, complete);
+    }
+
+    /**
+     * The {@code k} highest earners, or fewer if the roster is smaller. {@code k} must not exceed {@link #MAX_K}.
+     */
+    List<Employee> top(int k) {
+        return Collections.unmodifiableList(Arrays.asList(ranked).subList(0, Math.min(k, ranked.length)));
+    }
+
+    private static int salaryOf(Employee employee) {
+        return employee.salary() == Employee.MISSING ? 0 : employee.salary();
+    }
+}
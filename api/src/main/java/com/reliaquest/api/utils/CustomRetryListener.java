@@ -1,48 +1,82 @@
 package com.reliaquest.api.utils;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.retry.RetryCallback;
-import org.springframework.retry.RetryContext;
-import org.springframework.retry.RetryListener;
 import org.springframework.stereotype.Component;
 
+/**
+ * Receives the lifecycle events of {@link RetryEngine} and records them as {@code employee.upstream.retry.*} metrics
+ * alongside the log lines.
+ */
 @Component("customRetryListener")
 @Slf4j
-public class CustomRetryListener implements RetryListener {
+public class CustomRetryListener {
 
-    @Override
-    public <T, E extends Throwable> void onError(
-            RetryContext context, RetryCallback<T, E> callback, Throwable throwable) {
-        int attemptNumber = context.getRetryCount() + 1;
+    private final MeterRegistry meterRegistry;
+
+    public CustomRetryListener(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void open(String operation) {
+        log.info("Starting retryable operation: {}", operation);
+        Counter.builder("employee.upstream.retry.calls")
+                .description("Upstream calls executed under the retry policy")
+                .tag("operation", operation)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    public void onError(String operation, int attemptNumber, Throwable throwable) {
         log.warn(
-                "Retry attempt #{} failed for method: {} - Error: {}",
+                "Retry attempt #{} failed for operation: {} - Error: {}",
                 attemptNumber,
-                getMethodName(context),
+                operation,
                 throwable.getMessage());
+        Counter.builder("employee.upstream.retry.errors")
+                .description("Failed upstream attempts")
+                .tag("operation", operation)
+                .tag("status", Utils.statusTag(throwable))
+                .register(meterRegistry)
+                .increment();
+    }
+
+    public void retryScheduled(String operation, long delayMillis, Throwable throwable) {
+        log.debug("Retrying operation: {} in {}ms", operation, delayMillis);
+        Counter.builder("employee.upstream.retry.scheduled")
+                .description("Retries scheduled on a timer after a retryable failure")
+                .tag("operation", operation)
+                .tag("status", Utils.statusTag(throwable))
+                .register(meterRegistry)
+                .increment();
     }
 
-    @Override
-    public <T, E extends Throwable> void close(
-            RetryContext context, RetryCallback<T, E> callback, Throwable throwable) {
-        if (throwable != null) {
-            int totalAttempts = context.getRetryCount() + 1;
-            log.error(
-                    "All {} retry attempts exhausted for method: {} - Final error: {}",
-                    totalAttempts,
-                    getMethodName(context),
-                    throwable.getMessage());
+    public void close(String operation, int totalAttempts, Throwable throwable, String reason) {
+        if (throwable == null) {
+            return;
         }
+        log.error(
+                "All {} retry attempts exhausted for operation: {} ({}) - Final error: {}",
+                totalAttempts,
+                operation,
+                reason,
+                throwable.getMessage());
+        exhausted(operation, reason, Utils.statusTag(throwable));
     }
 
-    @Override
-    public <T, E extends Throwable> boolean open(RetryContext context, RetryCallback<T, E> callback) {
-        log.info("Starting retryable operation for method: {}", getMethodName(context));
-        return true;
+    public void timedOut(String operation, Throwable throwable) {
+        log.error("Deadline exceeded for operation: {} - {}", operation, throwable.getMessage());
+        exhausted(operation, "deadline", Utils.statusTag(throwable));
     }
 
-    private String getMethodName(RetryContext context) {
-        return context.getAttribute("context.name") != null
-                ? context.getAttribute("context.name").toString()
-                : "unknown";
+    private void exhausted(String operation, String reason, String status) {
+        Counter.builder("employee.upstream.retry.exhausted")
+                .description("Upstream calls that failed after the retry policy gave up")
+                .tag("operation", operation)
+                .tag("reason", reason)
+                .tag("status", status)
+                .register(meterRegistry)
+                .increment();
     }
 }
@@ -0,0 +1,28 @@
+package com.reliaquest.api.utils;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Starts the upstream deadline when a request arrives, so that every call {@link RetryEngine} makes while serving it
+ * draws on one {@code retry.deadline-ms} budget instead of each call getting a fresh one.
+ */
+@Component
+public class RequestDeadlineFilter extends OncePerRequestFilter {
+
+    @Value("${retry.deadline-ms}")
+    private long deadlineMillis;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        request.setAttribute(RetryEngine.DEADLINE_KEY, System.currentTimeMillis() + deadlineMillis);
+        chain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,144 @@
+package com.reliaquest.api.utils;
+
+import com.reliaquest.api.exception.ApiException;
+import jakarta.servlet.http.HttpServletRequest;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+import reactor.util.retry.Retry;
+
+/**
+ * Retry policy for upstream calls, applied exactly once per call by {@link com.reliaquest.api.client.EmployeeApiClient}
+ * so that nested service methods no longer multiply attempts. Re-attempts are scheduled on Reactor timers rather than
+ * sleeping a thread.
+ *
+ * <p>Every call runs against a deadline. While an HTTP request is being served, all calls share the deadline that
+ * {@link RequestDeadlineFilter} started when the request arrived. The request is found on the calling thread or, for
+ * reactive code, in the Reactor context written by {@link StaleResponses#bindRequest}. Outside a request the deadline
+ * is {@code retry.deadline-ms} from subscription, and a caller can share one across several calls with
+ * {@link #withDeadline}. A retry whose backoff would end past the deadline is not scheduled; the last failure is
+ * returned straight away.
+ */
+@Component
+public class RetryEngine {
+
+    static final String DEADLINE_KEY = RetryEngine.class.getName() + ".deadline";
+
+    private final CustomRetryListener listener;
+
+    @Value("${retry.max-attempts}")
+    private int maxAttempts;
+
+    @Value("${retry.delay-ms}")
+    private long delayMillis;
+
+    @Value("${retry.multiplier}")
+    private double multiplier;
+
+    @Value("${retry.max-delay-ms}")
+    private long maxDelayMillis;
+
+    @Value("${retry.jitter}")
+    private boolean jitter;
+
+    @Value("${retry.deadline-ms}")
+    private long deadlineMillis;
+
+    public RetryEngine(CustomRetryListener listener) {
+        this.listener = listener;
+    }
+
+    public <T> Mono<T> execute(String operation, Mono<T> call) {
+        return Mono.deferContextual(context -> {
+            long deadline = deadline(context);
+            long remaining = Math.max(0, deadline - System.currentTimeMillis());
+            listener.open(operation);
+
+            return call.retryWhen(policy(operation, deadline))
+                    .timeout(Duration.ofMillis(remaining), Mono.error(() -> deadlineExceeded(operation)));
+        });
+    }
+
+    /**
+     * Makes every {@link #execute} call inside {@code mono} share one deadline, unless an outer caller already set one.
+     */
+    public <T> Mono<T> withDeadline(Mono<T> mono) {
+        return mono.contextWrite(
+                context -> context.hasKey(DEADLINE_KEY) ? context : context.put(DEADLINE_KEY, deadline(context)));
+    }
+
+    private long deadline(ContextView context) {
+        if (context.hasKey(DEADLINE_KEY)) {
+            return context.get(DEADLINE_KEY);
+        }
+        HttpServletRequest request = context.<HttpServletRequest>getOrEmpty(HttpServletRequest.class)
+                .orElseGet(RetryEngine::currentRequest);
+        if (request != null && request.getAttribute(DEADLINE_KEY) instanceof Long requestDeadline) {
+            return requestDeadline;
+        }
+        return System.currentTimeMillis() + deadlineMillis;
+    }
+
+    private static HttpServletRequest currentRequest() {
+        return RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+                ? attributes.getRequest()
+                : null;
+    }
+
+    private Retry policy(String operation, long deadline) {
+        return Retry.from(signals -> signals.concatMap(signal -> {
+            Throwable failure = signal.failure();
+            int attempt = (int) signal.totalRetries() + 1;
+            listener.onError(operation, attempt, failure);
+
+            if (!isRetryable(failure)) {
+                listener.close(operation, attempt, failure, "non-retryable");
+                return Mono.error(failure);
+            }
+            if (attempt >= maxAttempts) {
+                listener.close(operation, attempt, failure, "attempts");
+                return Mono.error(failure);
+            }
+            long delay = backoff(attempt);
+            if (System.currentTimeMillis() + delay >= deadline) {
+                listener.close(operation, attempt, failure, "deadline");
+                return Mono.error(failure);
+            }
+
+            listener.retryScheduled(operation, delay, failure);
+            return Mono.delay(Duration.ofMillis(delay));
+        }));
+    }
+
+    /**
+     * Delay before the retry that follows failed attempt {@code attempt}, growing by {@code retry.multiplier} and
+     * capped at {@code retry.max-delay-ms}. With jitter, each delay is stretched by a random fraction of the growth
+     * step.
+     */
+    long backoff(int attempt) {
+        double delay = Math.min(maxDelayMillis, delayMillis * Math.pow(multiplier, attempt - 1));
+        if (jitter && multiplier > 1) {
+            double stretch = 1 + ThreadLocalRandom.current().nextDouble() * (multiplier - 1);
+            delay = Math.min(maxDelayMillis, delay * stretch);
+        }
+        return (long) delay;
+    }
+
+    private ApiException deadlineExceeded(String operation) {
+        ApiException exception = new ApiException(
+                "Upstream call " + operation + " did not complete in time", HttpStatus.GATEWAY_TIMEOUT);
+        listener.timedOut(operation, exception);
+        return exception;
+    }
+
+    static boolean isRetryable(Throwable throwable) {
+        return throwable instanceof ApiException e
+                && (e.getStatus().value() == 429 || e.getStatus().value() == 503);
+    }
+}
@@ -0,0 +1,40 @@
+package com.reliaquest.api.utils;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.time.Instant;
+import java.util.Optional;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import reactor.core.publisher.Mono;
+
+/**
+ * Records on the current request which employee snapshot version the response was built from, so that the response
+ * can carry a validator for conditional requests. Like {@link StaleResponses}, blocking code marks the request bound
+ * to the current thread, and reactive code marks the request bound with {@link StaleResponses#bindRequest}.
+ */
+public final class ServedSnapshots {
+
+    static final String ATTRIBUTE = ServedSnapshots.class.getName() + ".served";
+
+    private ServedSnapshots() {}
+
+    public record Served(long version, Instant loadedAt) {}
+
+    public static void mark(long version, Instant loadedAt) {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            attributes.getRequest().setAttribute(ATTRIBUTE, new Served(version, loadedAt));
+        }
+    }
+
+    public static <T> Mono<T> markDeferred(long version, Instant loadedAt, T value) {
+        return Mono.deferContextual(context -> {
+            context.<HttpServletRequest>getOrEmpty(HttpServletRequest.class)
+                    .ifPresent(request -> request.setAttribute(ATTRIBUTE, new Served(version, loadedAt)));
+            return Mono.just(value);
+        });
+    }
+
+    public static Optional<Served> served(HttpServletRequest request) {
+        return Optional.ofNullable((Served) request.getAttribute(ATTRIBUTE));
+    }
+}
@@ -0,0 +1,108 @@
+package com.reliaquest.api.utils;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Coalesces concurrent calls for the same key into one in-flight call. The first caller (the leader) runs the call;
+ * callers arriving while it is in flight wait for and share its result or exception.
+ */
+@Component
+@Slf4j
+public class SingleFlight {
+
+    private final ConcurrentMap<FlightKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public SingleFlight(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String operation, Object key, Supplier<T> call) {
+        FlightKey flightKey = new FlightKey(operation, key);
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, flight);
+
+        if (existing != null) {
+            log.debug("Joining in-flight {} call for key {}", operation, key);
+            counter(operation, "coalesced").increment();
+            return (T) await(existing);
+        }
+
+        counter(operation, "leader").increment();
+        try {
+            T result = call.get();
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, flight);
+        }
+    }
+
+    /**
+     * Reactive variant of {@link #execute}: the leader's call is subscribed independently of its own subscriber, so a
+     * cancelled leader never fails the callers that joined it. The call still runs with the leader's Reactor context,
+     * so it keeps the leader's request deadline; callers that join share that call and therefore that deadline.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Mono<T> executeMono(String operation, Object key, Supplier<Mono<T>> call) {
+        return Mono.deferContextual(context -> {
+            FlightKey flightKey = new FlightKey(operation, key);
+            CompletableFuture<Object> flight = new CompletableFuture<>();
+            CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, flight);
+
+            if (existing != null) {
+                log.debug("Joining in-flight {} call for key {}", operation, key);
+                counter(operation, "coalesced").increment();
+                return Mono.fromFuture(existing).map(value -> (T) value);
+            }
+
+            counter(operation, "leader").increment();
+            flight.whenComplete((value, error) -> inFlight.remove(flightKey, flight));
+            call.get()
+                    .contextWrite(context)
+                    .subscribe(flight::complete, flight::completeExceptionally, () -> flight.complete(null));
+            return Mono.fromFuture(flight).map(value -> (T) value);
+        });
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private Object await(CompletableFuture<Object> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private Counter counter(String operation, String role) {
+        return Counter.builder("employee.upstream.singleflight")
+                .description("Upstream calls by single-flight role: leader calls hit upstream, coalesced calls share one")
+                .tag("operation", operation)
+                .tag("role", role)
+                .register(meterRegistry);
+    }
+
+    private record FlightKey(String operation, Object key) {}
+}
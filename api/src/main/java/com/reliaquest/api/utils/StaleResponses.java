@@ -0,0 +1,60 @@
+package com.reliaquest.api.utils;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.time.Instant;
+import java.util.Optional;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+/**
+ * Marks the current request as answered from last-known-good data, so that the response can carry staleness headers.
+ * Blocking code marks the request bound to the current thread. Reactive code marks the request that the controller
+ * put into the Reactor context with {@link #bindRequest}.
+ */
+public final class StaleResponses {
+
+    static final String ATTRIBUTE = StaleResponses.class.getName() + ".loadedAt";
+
+    private StaleResponses() {}
+
+    public static void mark(Instant loadedAt) {
+        currentRequest().ifPresent(request -> request.setAttribute(ATTRIBUTE, loadedAt));
+    }
+
+    public static <T> Mono<T> markDeferred(Instant loadedAt, T value) {
+        return Mono.deferContextual(context -> {
+            context.<HttpServletRequest>getOrEmpty(HttpServletRequest.class)
+                    .ifPresent(request -> request.setAttribute(ATTRIBUTE, loadedAt));
+            return Mono.just(value);
+        });
+    }
+
+    /**
+     * Used by {@code @Cacheable(unless = ...)} so that fallback answers are not cached as if they were fresh.
+     */
+    public static boolean isMarked() {
+        return currentRequest().flatMap(StaleResponses::loadedAt).isPresent();
+    }
+
+    public static Optional<Instant> loadedAt(HttpServletRequest request) {
+        return Optional.ofNullable((Instant) request.getAttribute(ATTRIBUTE));
+    }
+
+    /**
+     * Captures the request served by the calling thread so that {@link #markDeferred} can reach it from another thread,
+     * and so that {@link RetryEngine} applies that request's deadline there.
+     */
+    public static Context bindRequest() {
+        return currentRequest()
+                .map(request -> Context.of(HttpServletRequest.class, request))
+                .orElse(Context.empty());
+    }
+
+    private static Optional<HttpServletRequest> currentRequest() {
+        return RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+                ? Optional.of(attributes.getRequest())
+                : Optional.empty();
+    }
+}
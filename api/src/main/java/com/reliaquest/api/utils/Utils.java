@@ -12,6 +12,16 @@ import reactor.core.publisher.Mono;
 @Slf4j
 public class Utils {
 
+    public static final String NO_STATUS_TAG = "error";
+
+    /**
+     * Value of the {@code status} tag on upstream meters for a failed call: the HTTP status when the upstream answered
+     * with one, otherwise {@value #NO_STATUS_TAG}.
+     */
+    public static String statusTag(Throwable throwable) {
+        return throwable instanceof ApiException e ? String.valueOf(e.getStatus().value()) : NO_STATUS_TAG;
+    }
+
     public WebClient.ResponseSpec addExceptionHandling(WebClient.ResponseSpec retrieve) {
         return retrieve.onStatus((HttpStatusCode code) -> code.equals(HttpStatus.TOO_MANY_REQUESTS), resp -> {
                     log.warn("Received 429 Too Many Requests - creating ApiException for retry");
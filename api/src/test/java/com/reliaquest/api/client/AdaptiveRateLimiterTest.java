@@ -0,0 +1,145 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.exception.ApiException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+class AdaptiveRateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000);
+    private SimpleMeterRegistry meterRegistry;
+    private AdaptiveRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        limiter = new AdaptiveRateLimiter(3, 1, 10, 0.5, 30_000, 120_000, 2, 60_000, meterRegistry, now::get);
+    }
+
+    @Test
+    void testReserve_AdmitsBudgetThenQueuesUntilWindowPasses() {
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, limiter.reserve().delayMillis());
+        }
+
+        AdaptiveRateLimiter.Slot queued = limiter.reserve();
+
+        assertEquals(30_000, queued.delayMillis());
+        assertTrue(queued.firstOfCycle());
+        assertEquals(1, limiter.getWaiting());
+        assertEquals(4.0, limiter.getLimit());
+    }
+
+    @Test
+    void testReserve_ShedsWhenQueueIsFull() {
+        for (int i = 0; i < 3; i++) {
+            limiter.reserve();
+        }
+        limiter.reserve();
+        limiter.reserve();
+
+        assertNull(limiter.reserve());
+        assertEquals(1.0, meterRegistry.get("employee.upstream.ratelimit.requests")
+                .tag("outcome", "shed")
+                .counter()
+                .count());
+    }
+
+    @Test
+    void testReserve_ShedsWhenWaitExceedsMaxQueueWait() {
+        limiter = new AdaptiveRateLimiter(1, 1, 10, 0.5, 90_000, 120_000, 10, 60_000, meterRegistry, now::get);
+        limiter.reserve();
+
+        assertNull(limiter.reserve());
+    }
+
+    @Test
+    void testOnResponse_429DecreasesLimitAndStartsCooldown() {
+        AdaptiveRateLimiter.Slot slot = limiter.reserve();
+
+        limiter.onResponse(slot, 429);
+
+        assertEquals(1.5, limiter.getLimit());
+        AdaptiveRateLimiter.Slot next = limiter.reserve();
+        assertEquals(30_000, next.delayMillis());
+        assertTrue(next.firstOfCycle());
+    }
+
+    @Test
+    void testOnResponse_429OnFirstRequestOfCycleGrowsWindow() {
+        AdaptiveRateLimiter.Slot slot = limiter.reserve();
+        limiter.onResponse(slot, 429);
+
+        now.addAndGet(30_000);
+        AdaptiveRateLimiter.Slot probe = limiter.reserve();
+        assertEquals(0, probe.delayMillis());
+        limiter.onResponse(probe, 429);
+
+        assertEquals(45_000, limiter.getWindowMillis());
+    }
+
+    @Test
+    void testOnResponse_Stale429IsIgnored() {
+        AdaptiveRateLimiter.Slot first = limiter.reserve();
+        AdaptiveRateLimiter.Slot second = limiter.reserve();
+
+        limiter.onResponse(first, 429);
+        limiter.onResponse(second, 429);
+
+        assertEquals(1.5, limiter.getLimit());
+    }
+
+    @Test
+    void testRelease_RejectsSlotBookedBeforeA429() {
+        for (int i = 0; i < 3; i++) {
+            limiter.reserve();
+        }
+        AdaptiveRateLimiter.Slot queued = limiter.reserve();
+        AdaptiveRateLimiter.Slot inFlight = new AdaptiveRateLimiter.Slot(queued.epoch(), false, 0);
+
+        limiter.onResponse(inFlight, 429);
+
+        assertFalse(limiter.release(queued));
+        assertEquals(0, limiter.getWaiting());
+    }
+
+    @Test
+    void testFilter_PassesAdmittedRequestsThrough() {
+        ClientRequest request = ClientRequest.create(HttpMethod.GET, URI.create("http://localhost/api/v1/employee"))
+                .build();
+        ClientResponse response = mock(ClientResponse.class);
+        when(response.statusCode()).thenReturn(HttpStatus.OK);
+        ExchangeFunction next = mock(ExchangeFunction.class);
+        when(next.exchange(request)).thenReturn(Mono.just(response));
+
+        assertSame(response, limiter.filter(request, next).block());
+        verify(next).exchange(request);
+    }
+
+    @Test
+    void testFilter_ShedRequestFailsWithoutReachingUpstream() {
+        limiter = new AdaptiveRateLimiter(1, 1, 10, 0.5, 90_000, 120_000, 10, 60_000, meterRegistry, now::get);
+        limiter.reserve();
+        ClientRequest request = ClientRequest.create(HttpMethod.GET, URI.create("http://localhost/api/v1/employee"))
+                .build();
+        ExchangeFunction next = mock(ExchangeFunction.class);
+
+        ApiException exception =
+                assertThrows(ApiException.class, () -> limiter.filter(request, next).block());
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, exception.getStatus());
+        verifyNoInteractions(next);
+    }
+}
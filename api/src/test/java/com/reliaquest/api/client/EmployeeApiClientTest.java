@@ -0,0 +1,312 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.dto.EmployeeCreateRequest;
+import com.reliaquest.api.dto.EmployeeDTO;
+import com.reliaquest.api.exception.ApiException;
+import com.reliaquest.api.model.EmployeeListResponse;
+import com.reliaquest.api.model.EmployeeResponse;
+import com.reliaquest.api.model.GenericResponse;
+import com.reliaquest.api.store.Employee;
+import com.reliaquest.api.store.EmployeeInterner;
+import com.reliaquest.api.utils.CustomRetryListener;
+import com.reliaquest.api.utils.RetryEngine;
+import com.reliaquest.api.utils.Utils;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeApiClientTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @Mock
+    private WebClient webClient;
+
+    @Mock
+    private Utils utils;
+
+    @Spy
+    private CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+
+    @Spy
+    private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private EmployeeInterner interner = new EmployeeInterner();
+
+    @Spy
+    private EmployeeListDecoder listDecoder = new EmployeeListDecoder(objectMapper, interner, 1_048_576);
+
+    @Spy
+    private RetryEngine retryEngine = new RetryEngine(new CustomRetryListener(new SimpleMeterRegistry()));
+
+    @Mock
+    private WebClient.RequestHeadersUriSpec requestHeadersUriSpec;
+
+    @Mock
+    private WebClient.RequestBodyUriSpec requestBodyUriSpec;
+
+    @Mock
+    private WebClient.RequestHeadersSpec requestHeadersSpec;
+
+    @Mock
+    private WebClient.ResponseSpec responseSpec;
+
+    @InjectMocks
+    private EmployeeApiClient employeeApiClient;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(employeeApiClient, "serverBaseUrl", "http://localhost:8112/api/v1");
+        ReflectionTestUtils.setField(retryEngine, "maxAttempts", 1);
+        ReflectionTestUtils.setField(retryEngine, "deadlineMillis", 60000L);
+    }
+
+    @Test
+    void testFetchAll_ReturnsEmployees() throws Exception {
+        List<EmployeeDTO> employees =
+                Arrays.asList(createEmployee("1", "Alice", 50000), createEmployee("2", "Bob", 60000));
+        EmployeeListResponse listResponse = new EmployeeListResponse();
+        listResponse.setData(employees);
+
+        stubGet();
+        when(responseSpec.bodyToFlux(DataBuffer.class)).thenReturn(body(objectMapper.writeValueAsBytes(listResponse)));
+
+        List<Employee> result = employeeApiClient.fetchAll().block();
+        assertEquals(2, result.size());
+        assertEquals("Alice", result.get(0).name());
+        assertEquals("Bob", result.get(1).name());
+        assertSame(result.get(0).title(), result.get(1).title());
+    }
+
+    @Test
+    void testFetchAll_ReturnsEmptyListOnEmptyResponse() {
+        stubGet();
+        when(responseSpec.bodyToFlux(DataBuffer.class)).thenReturn(Flux.empty());
+
+        List<Employee> result = employeeApiClient.fetchAll().block();
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void testFetchAll_ReturnsEmptyListOnNullData() {
+        stubGet();
+        when(responseSpec.bodyToFlux(DataBuffer.class))
+                .thenReturn(body("{\"data\":null,\"status\":\"ok\"}".getBytes(StandardCharsets.UTF_8)));
+
+        List<Employee> result = employeeApiClient.fetchAll().block();
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void testFetchById_ReturnsEmployee() {
+        String id = "1";
+        EmployeeResponse empResponse = new EmployeeResponse();
+        empResponse.setData(createEmployee(id, "Alice", 50000));
+
+        stubGet();
+        when(responseSpec.toEntity(EmployeeResponse.class))
+                .thenReturn(Mono.just(new ResponseEntity<>(empResponse, HttpStatus.OK)));
+
+        Employee result = employeeApiClient.fetchById(id).block();
+        assertEquals("Alice", result.name());
+        assertEquals(id, result.id());
+    }
+
+    @Test
+    void testFetchById_ThrowsApiExceptionOnNotFound() {
+        String id = "999";
+
+        stubGet();
+        when(responseSpec.toEntity(EmployeeResponse.class))
+                .thenReturn(Mono.just(new ResponseEntity<>(null, HttpStatus.OK)));
+
+        ApiException exception =
+                assertThrows(ApiException.class, () -> employeeApiClient.fetchById(id).block());
+        assertEquals(HttpStatus.NOT_FOUND, exception.getStatus());
+        assertTrue(exception.getMessage().contains("Employee not found for id " + id));
+    }
+
+    @Test
+    void testCreate_ReturnsCreatedEmployee() {
+        EmployeeCreateRequest request = createRequest();
+        EmployeeResponse empResponse = new EmployeeResponse();
+        empResponse.setData(createEmployee("1", "Alice", 50000));
+
+        stubPost(request);
+        when(responseSpec.toEntity(EmployeeResponse.class))
+                .thenReturn(Mono.just(new ResponseEntity<>(empResponse, HttpStatus.OK)));
+
+        Employee result = employeeApiClient.create(request).block();
+        assertEquals("Alice", result.name());
+        assertEquals(50000, result.salary());
+    }
+
+    @Test
+    void testCreate_ThrowsApiExceptionOnFailure() {
+        EmployeeCreateRequest request = createRequest();
+
+        stubPost(request);
+        when(responseSpec.toEntity(EmployeeResponse.class)).thenReturn(Mono.empty());
+
+        ApiException exception =
+                assertThrows(ApiException.class, () -> employeeApiClient.create(request).block());
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, exception.getStatus());
+        assertTrue(exception.getMessage().contains("Failed to create employee"));
+    }
+
+    @Test
+    void testDeleteByName_ReturnsEmployeeName() {
+        GenericResponse genResponse = new GenericResponse();
+        genResponse.setData("true");
+
+        stubDelete();
+        when(responseSpec.toEntity(GenericResponse.class))
+                .thenReturn(Mono.just(new ResponseEntity<>(genResponse, HttpStatus.OK)));
+
+        assertEquals("Alice", employeeApiClient.deleteByName("1", "Alice").block());
+    }
+
+    @Test
+    void testDeleteByName_ThrowsApiExceptionOnFailure() {
+        stubDelete();
+        when(responseSpec.toEntity(GenericResponse.class))
+                .thenReturn(Mono.just(new ResponseEntity<>(null, HttpStatus.INTERNAL_SERVER_ERROR)));
+
+        ApiException exception = assertThrows(
+                ApiException.class, () -> employeeApiClient.deleteByName("1", "Alice").block());
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, exception.getStatus());
+        assertTrue(exception.getMessage().contains("Failed to delete employee with id 1"));
+    }
+
+    @Test
+    void testDeleteByName_ThrowsApiExceptionOnFalseResponse() {
+        GenericResponse genResponse = new GenericResponse();
+        genResponse.setData("false");
+
+        stubDelete();
+        when(responseSpec.toEntity(GenericResponse.class))
+                .thenReturn(Mono.just(new ResponseEntity<>(genResponse, HttpStatus.OK)));
+
+        ApiException exception = assertThrows(
+                ApiException.class, () -> employeeApiClient.deleteByName("1", "Alice").block());
+        assertEquals(HttpStatus.OK, exception.getStatus());
+        assertTrue(exception.getMessage().contains("Failed to delete employee with id 1"));
+    }
+
+    @Test
+    void testCalls_RecordUpstreamLatencyByOperationAndStatus() {
+        stubGet();
+        when(responseSpec.bodyToFlux(DataBuffer.class)).thenReturn(Flux.empty());
+        employeeApiClient.fetchAll().block();
+
+        stubGet();
+        when(responseSpec.toEntity(EmployeeResponse.class))
+                .thenReturn(Mono.error(new ApiException("Employee Not Found", HttpStatus.NOT_FOUND)));
+        assertThrows(ApiException.class, () -> employeeApiClient.fetchById("9").block());
+
+        assertEquals(1, upstreamTimer("fetchAll", "success").count());
+        assertEquals(1, upstreamTimer("fetchById", "404").count());
+    }
+
+    @Test
+    void testFetchAll_FailsFastWhileCircuitIsOpen() {
+        circuitBreakerRegistry.circuitBreaker(EmployeeApiClient.CIRCUIT_BREAKER).transitionToOpenState();
+
+        assertThrows(CallNotPermittedException.class, () -> employeeApiClient.fetchAll().block());
+        verifyNoInteractions(webClient);
+    }
+
+    @Test
+    void testCalls_AreColdUntilSubscribed() {
+        employeeApiClient.fetchAll();
+        employeeApiClient.fetchById("1");
+
+        verifyNoInteractions(webClient);
+    }
+
+    private Timer upstreamTimer(String operation, String status) {
+        return meterRegistry
+                .get("employee.upstream.requests")
+                .tag("operation", operation)
+                .tag("status", status)
+                .timer();
+    }
+
+    private static Flux<DataBuffer> body(byte[] bytes) {
+        return Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(bytes));
+    }
+
+    private void stubGet() {
+        when(webClient.get()).thenReturn(requestHeadersUriSpec);
+        when(requestHeadersUriSpec.uri(anyString())).thenReturn(requestHeadersSpec);
+        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
+        when(utils.addExceptionHandling(responseSpec)).thenReturn(responseSpec);
+    }
+
+    private void stubPost(EmployeeCreateRequest request) {
+        when(webClient.post()).thenReturn(requestBodyUriSpec);
+        when(requestBodyUriSpec.uri(anyString())).thenReturn(requestBodyUriSpec);
+        when(requestBodyUriSpec.header(anyString(), anyString())).thenReturn(requestBodyUriSpec);
+        when(requestBodyUriSpec.bodyValue(request)).thenReturn(requestHeadersSpec);
+        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
+        when(utils.addExceptionHandling(responseSpec)).thenReturn(responseSpec);
+    }
+
+    private void stubDelete() {
+        when(webClient.method(any())).thenReturn(requestBodyUriSpec);
+        when(requestBodyUriSpec.uri(anyString())).thenReturn(requestBodyUriSpec);
+        when(requestBodyUriSpec.bodyValue(any(Map.class))).thenReturn(requestHeadersSpec);
+        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
+        when(utils.addExceptionHandling(responseSpec)).thenReturn(responseSpec);
+    }
+
+    private EmployeeCreateRequest createRequest() {
+        EmployeeCreateRequest request = new EmployeeCreateRequest();
+        request.setName("Alice");
+        request.setSalary(50000);
+        request.setAge(30);
+        request.setTitle("Engineer");
+        return request;
+    }
+
+    // Helper method to create test employee DTOs
+    private EmployeeDTO createEmployee(String id, String name, int salary) {
+        EmployeeDTO dto = new EmployeeDTO();
+        dto.setId(id);
+        dto.setName(name);
+        dto.setSalary(salary);
+        dto.setAge(30);
+        dto.setTitle("Engineer");
+        dto.setEmail(name.toLowerCase() + "@example.com");
+        return dto;
+    }
+}
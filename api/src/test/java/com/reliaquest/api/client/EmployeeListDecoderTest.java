@@ -0,0 +1,92 @@
+package com.reliaquest.api.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.exception.ApiException;
+import com.reliaquest.api.store.Employee;
+import com.reliaquest.api.store.EmployeeInterner;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import reactor.core.publisher.Flux;
+
+class EmployeeListDecoderTest {
+
+    private static final String BODY = "{\"status\":\"Successfully processed request.\",\"meta\":{\"data\":[1,2]},"
+            + "\"data\":[{\"id\":\"1\",\"employee_name\":\"Alice\",\"employee_salary\":50000,\"tags\":{\"a\":[1]}},"
+            + "null,{\"id\":\"2\",\"employee_name\":\"Bob \\u00e9\",\"employee_salary\":60000}]}";
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final EmployeeInterner interner = new EmployeeInterner();
+
+    @Test
+    void testDecode_ReadsDataElementsAcrossArbitraryChunkBoundaries() {
+        EmployeeListDecoder decoder = new EmployeeListDecoder(objectMapper, interner, 1_048_576);
+
+        for (int chunkSize = 1; chunkSize <= 16; chunkSize++) {
+            List<Employee> employees = decoder.decode(chunks(BODY, chunkSize)).collectList().block();
+
+            assertEquals(2, employees.size(), "chunk size " + chunkSize);
+            assertEquals("Alice", employees.get(0).name());
+            assertEquals(50000, employees.get(0).salary());
+            assertEquals("Bob \u00e9", employees.get(1).name());
+        }
+    }
+
+    @Test
+    void testDecode_EmitsEmployeesBeforeTheBodyIsComplete() {
+        EmployeeListDecoder decoder = new EmployeeListDecoder(objectMapper, interner, 1_048_576);
+        String firstPart = "{\"data\":[{\"id\":\"1\",\"employee_name\":\"Alice\"},";
+
+        Employee first = decoder.decode(Flux.concat(chunks(firstPart, 8), Flux.never())).blockFirst();
+
+        assertEquals("Alice", first.name());
+    }
+
+    @Test
+    void testDecode_NullDataIsEmpty() {
+        EmployeeListDecoder decoder = new EmployeeListDecoder(objectMapper, interner, 1_048_576);
+
+        assertTrue(decoder.decode(chunks("{\"data\":null}", 4)).collectList().block().isEmpty());
+        assertTrue(decoder.decode(Flux.empty()).collectList().block().isEmpty());
+    }
+
+    @Test
+    void testDecode_RejectsBodyOverTheCap() {
+        EmployeeListDecoder decoder = new EmployeeListDecoder(objectMapper, interner, 64);
+
+        ApiException exception = assertThrows(
+                ApiException.class, () -> decoder.decode(chunks(BODY, 16)).collectList().block());
+
+        assertEquals(HttpStatus.BAD_GATEWAY, exception.getStatus());
+    }
+
+    @Test
+    void testDecode_RejectsTruncatedBody() {
+        EmployeeListDecoder decoder = new EmployeeListDecoder(objectMapper, interner, 1_048_576);
+
+        assertThrows(
+                DecodingException.class,
+                () -> decoder.decode(chunks(BODY.substring(0, BODY.length() - 30), 16))
+                        .collectList()
+                        .block());
+    }
+
+    private static Flux<DataBuffer> chunks(String json, int chunkSize) {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        List<DataBuffer> buffers = new ArrayList<>();
+        for (int from = 0; from < bytes.length; from += chunkSize) {
+            buffers.add(DefaultDataBufferFactory.sharedInstance.wrap(
+                    Arrays.copyOfRange(bytes, from, Math.min(bytes.length, from + chunkSize))));
+        }
+        return Flux.fromIterable(buffers);
+    }
+}
@@ -1,13 +1,21 @@
 package com.reliaquest.api.controller;
 
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.reliaquest.api.dto.EmployeeCreateRequest;
+import com.reliaquest.api.dto.EmployeeCreateResultDTO;
 import com.reliaquest.api.dto.EmployeeDTO;
+import com.reliaquest.api.dto.EmployeeLookupDTO;
+import com.reliaquest.api.dto.EmployeePageDTO;
+import com.reliaquest.api.dto.SalaryStatsDTO;
 import com.reliaquest.api.service.EmployeeService;
+import com.reliaquest.api.store.Employee;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -19,40 +27,31 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 @WebMvcTest(EmployeeController.class)
 class EmployeeControllerTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @MockBean
     private EmployeeService employeeService;
 
-    private EmployeeDTO employee1;
-    private EmployeeDTO employee2;
+    private Employee employee1;
+    private Employee employee2;
 
     @BeforeEach
     void setUp() {
-        employee1 = new EmployeeDTO();
-        employee1.setId("1");
-        employee1.setName("John Doe");
-        employee1.setSalary(50000);
-        employee1.setAge(30);
-        employee1.setTitle("Developer");
-        employee1.setEmail("john@example.com");
-
-        employee2 = new EmployeeDTO();
-        employee2.setId("2");
-        employee2.setName("Jane Smith");
-        employee2.setSalary(60000);
-        employee2.setAge(28);
-        employee2.setTitle("Manager");
-        employee2.setEmail("jane@example.com");
+        employee1 = new Employee("1", "John Doe", 50000, 30, "Developer", "john", "example.com");
+        employee2 = new Employee("2", "Jane Smith", 60000, 28, "Manager", "jane", "example.com");
     }
 
     @Test
     void getAllEmployees_shouldReturnListOfEmployees() throws Exception {
-        List<EmployeeDTO> employees = Arrays.asList(employee1, employee2);
+        List<Employee> employees = Arrays.asList(employee1, employee2);
         Mockito.when(employeeService.fetchAll()).thenReturn(employees);
         mockMvc.perform(get("/api/v1/employee").contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
@@ -62,6 +61,40 @@ class EmployeeControllerTest {
                 .andExpect(jsonPath("$[1].name").value("Jane Smith"));
     }
 
+    @Test
+    void streamAllEmployees_shouldWriteOneEmployeePerLineForNdjson() throws Exception {
+        Mockito.when(employeeService.fetchAll()).thenReturn(Arrays.asList(employee1, employee2));
+
+        MvcResult result = mockMvc.perform(get("/api/v1/employee").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("John Doe", objectMapper.readValue(lines[0], EmployeeDTO.class).getName());
+        assertEquals("Jane Smith", objectMapper.readValue(lines[1], EmployeeDTO.class).getName());
+    }
+
+    @Test
+    void streamAllEmployees_shouldWriteJsonArrayWhenRequested() throws Exception {
+        Mockito.when(employeeService.fetchAll()).thenReturn(Arrays.asList(employee1, employee2));
+
+        MvcResult result = mockMvc.perform(get("/api/v1/employee").param("stream", "true"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().json(objectMapper.writeValueAsString(Arrays.asList(employee1, employee2))));
+    }
+
     @Test
     void getEmployeesByNameSearch_shouldReturnMatchingEmployees() throws Exception {
         Mockito.when(employeeService.searchByName("John")).thenReturn(Collections.singletonList(employee1));
@@ -79,6 +112,29 @@ class EmployeeControllerTest {
                 .andExpect(jsonPath("$.name").value("John Doe"));
     }
 
+    @Test
+    void getEmployeeById_shouldSerializeOnlyRequestedFields() throws Exception {
+        Mockito.when(employeeService.fetchById("1")).thenReturn(employee1);
+        mockMvc.perform(get("/api/v1/employee/1").param("fields", "id, name"))
+                .andExpect(status().isOk())
+                .andExpect(content().json("{\"id\":\"1\",\"name\":\"John Doe\"}", true));
+    }
+
+    @Test
+    void getAllEmployees_shouldSerializeOnlyRequestedFields() throws Exception {
+        Mockito.when(employeeService.fetchAll()).thenReturn(Arrays.asList(employee1, employee2));
+        mockMvc.perform(get("/api/v1/employee").param("fields", "name"))
+                .andExpect(status().isOk())
+                .andExpect(content().json("[{\"name\":\"John Doe\"},{\"name\":\"Jane Smith\"}]", true));
+    }
+
+    @Test
+    void getEmployeesByNameSearch_shouldRejectUnknownField() throws Exception {
+        mockMvc.perform(get("/api/v1/employee/search/John").param("fields", "id,password"))
+                .andExpect(status().isBadRequest());
+        Mockito.verify(employeeService, Mockito.never()).searchByName(any());
+    }
+
     @Test
     void getHighestSalaryOfEmployees_shouldReturnHighestSalary() throws Exception {
         Mockito.when(employeeService.getHighestSalary()).thenReturn(90000);
@@ -87,6 +143,30 @@ class EmployeeControllerTest {
                 .andExpect(content().string("90000"));
     }
 
+    @Test
+    void getEmployeePage_shouldReturnPageWithCursor() throws Exception {
+        EmployeePageDTO page = new EmployeePageDTO(List.of(employee1.toDto()), "next", 7);
+        Mockito.when(employeeService.getPage("abc", 1)).thenReturn(page);
+        mockMvc.perform(get("/api/v1/employee/page").param("cursor", "abc").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.employees", hasSize(1)))
+                .andExpect(jsonPath("$.employees[0].id").value("1"))
+                .andExpect(jsonPath("$.nextCursor").value("next"))
+                .andExpect(jsonPath("$.version").value(7));
+    }
+
+    @Test
+    void getSalaryStats_shouldReturnDistribution() throws Exception {
+        SalaryStatsDTO stats = new SalaryStatsDTO(
+                2, 50000, 60000, 55000, 50000, 60000, 60000, List.of(new SalaryStatsDTO.SalaryBucket(50000, null, 2)));
+        Mockito.when(employeeService.getSalaryStats()).thenReturn(stats);
+        mockMvc.perform(get("/api/v1/employee/salaryStats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.count").value(2))
+                .andExpect(jsonPath("$.p90").value(60000))
+                .andExpect(jsonPath("$.histogram[0].count").value(2));
+    }
+
     @Test
     void getTopTenHighestEarningEmployeeNames_shouldReturnNames() throws Exception {
         List<String> names = Arrays.asList("John Doe", "Jane Smith");
@@ -99,6 +179,69 @@ class EmployeeControllerTest {
                 .andExpect(jsonPath("$[1]").value("Jane Smith"));
     }
 
+    @Test
+    void getTopEarners_shouldReturnEmployeesForRequestedCount() throws Exception {
+        Mockito.when(employeeService.getTopEarners(2)).thenReturn(Arrays.asList(employee2, employee1));
+        mockMvc.perform(get("/api/v1/employee/topEarners").param("k", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].name").value("Jane Smith"))
+                .andExpect(jsonPath("$[1].name").value("John Doe"));
+    }
+
+    @Test
+    void getEmployeesByIds_shouldReturnStatusPerId() throws Exception {
+        Mockito.when(employeeService.fetchByIds(List.of("1", "9")))
+                .thenReturn(List.of(
+                        new EmployeeLookupDTO("1", 200, employee1.toDto()), new EmployeeLookupDTO("9", 404, null)));
+        mockMvc.perform(post("/api/v1/employee/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[\"1\",\"9\"]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].employee.name").value("John Doe"))
+                .andExpect(jsonPath("$[1].status").value(404));
+    }
+
+    @Test
+    void getEmployeesByIds_shouldRejectEmptyBatch() throws Exception {
+        mockMvc.perform(post("/api/v1/employee/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[]}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void createEmployees_shouldReturnResultPerItem() throws Exception {
+        EmployeeDTO employee = new EmployeeDTO();
+        employee.setId("1");
+        employee.setName("John Doe");
+
+        Mockito.when(employeeService.createAll(anyList()))
+                .thenReturn(List.of(
+                        new EmployeeCreateResultDTO(0, 201, employee, null),
+                        new EmployeeCreateResultDTO(1, 429, null, "Too many requests")));
+
+        String item = "{\"name\":\"John Doe\",\"salary\":50000,\"age\":30,\"title\":\"Developer\"}";
+        mockMvc.perform(post("/api/v1/employee/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"employees\":[" + item + "," + item + "]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].employee.name").value("John Doe"))
+                .andExpect(jsonPath("$[1].status").value(429));
+    }
+
+    @Test
+    void createEmployees_shouldRejectBatchWithInvalidItem() throws Exception {
+        mockMvc.perform(post("/api/v1/employee/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"employees\":[{\"name\":\"\",\"salary\":50000,\"age\":30,\"title\":\"Dev\"}]}"))
+                .andExpect(status().isBadRequest());
+
+        Mockito.verifyNoInteractions(employeeService);
+    }
+
     @Test
     void createEmployee_shouldReturnCreatedEmployee() throws Exception {
         EmployeeCreateRequest request = new EmployeeCreateRequest();
@@ -107,13 +250,7 @@ class EmployeeControllerTest {
         request.setAge(30);
         request.setTitle("Developer");
 
-        EmployeeDTO employee = new EmployeeDTO();
-        employee.setId("1");
-        employee.setName("John Doe");
-        employee.setSalary(50000);
-        employee.setAge(30);
-        employee.setTitle("Developer");
-        employee.setEmail(null);
+        Employee employee = new Employee("1", "John Doe", 50000, 30, "Developer", null, null);
 
         Mockito.when(employeeService.create(any(EmployeeCreateRequest.class))).thenReturn(employee);
 
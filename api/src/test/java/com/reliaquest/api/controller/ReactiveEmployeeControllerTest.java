@@ -0,0 +1,75 @@
+package com.reliaquest.api.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.reliaquest.api.exception.ApiException;
+import com.reliaquest.api.service.ReactiveEmployeeService;
+import com.reliaquest.api.store.Employee;
+import java.util.Arrays;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Mono;
+
+@WebMvcTest(controllers = ReactiveEmployeeController.class, properties = "api.execution-mode=reactive")
+class ReactiveEmployeeControllerTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ReactiveEmployeeService employeeService;
+
+    private Employee employee1;
+    private Employee employee2;
+
+    @BeforeEach
+    void setUp() {
+        employee1 = new Employee("1", "John Doe", 50000, Employee.MISSING, null, null, null);
+        employee2 = new Employee("2", "Jane Smith", 60000, Employee.MISSING, null, null, null);
+    }
+
+    @Test
+    void getAllEmployees_shouldReturnListOfEmployees() throws Exception {
+        Mockito.when(employeeService.fetchAll()).thenReturn(Mono.just(Arrays.asList(employee1, employee2)));
+
+        MvcResult result = mockMvc.perform(get("/api/v1/employee").contentType(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value("1"))
+                .andExpect(jsonPath("$[1].name").value("Jane Smith"));
+    }
+
+    @Test
+    void getHighestSalary_shouldReturnSalary() throws Exception {
+        Mockito.when(employeeService.getHighestSalary()).thenReturn(Mono.just(60000));
+
+        MvcResult result = mockMvc.perform(get("/api/v1/employee/highestSalary"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk()).andExpect(content().string("60000"));
+    }
+
+    @Test
+    void getEmployeeById_shouldMapApiExceptionToStatus() throws Exception {
+        Mockito.when(employeeService.fetchById("404"))
+                .thenReturn(Mono.error(new ApiException("Employee not found for id 404", HttpStatus.NOT_FOUND)));
+
+        MvcResult result = mockMvc.perform(get("/api/v1/employee/404"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result)).andExpect(status().isNotFound());
+    }
+}
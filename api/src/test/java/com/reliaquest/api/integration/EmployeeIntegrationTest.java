@@ -7,11 +7,13 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.client.EmployeeApiClient;
 import com.reliaquest.api.dto.EmployeeCreateRequest;
 import com.reliaquest.api.dto.EmployeeDTO;
 import com.reliaquest.api.model.EmployeeListResponse;
 import com.reliaquest.api.model.EmployeeResponse;
 import com.reliaquest.api.model.GenericResponse;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
@@ -30,7 +32,13 @@ import org.springframework.web.context.WebApplicationContext;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @AutoConfigureWebMvc
-@TestPropertySource(properties = {"server.api.url=http://localhost:${mockserver.port}/api/v1"})
+@TestPropertySource(
+        properties = {
+            "server.api.url=http://localhost:${mockserver.port}/api/v1",
+            "web-client.rate-limit.enabled=false",
+            "employees.snapshot.file.enabled=false",
+            "employees.warmup.enabled=false"
+        })
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 class EmployeeIntegrationTest {
 
@@ -43,6 +51,9 @@ class EmployeeIntegrationTest {
     @Autowired
     private CacheManager cacheManager;
 
+    @Autowired
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+
     private MockMvc mockMvc;
     private static ClientAndServer mockServer;
     private static final String BASE_URL = "/api/v1/employee";
@@ -64,6 +75,7 @@ class EmployeeIntegrationTest {
         mockServer.reset();
         cacheManager.getCacheNames().forEach(name -> Objects.requireNonNull(cacheManager.getCache(name))
                 .clear());
+        circuitBreakerRegistry.circuitBreaker(EmployeeApiClient.CIRCUIT_BREAKER).reset();
     }
 
     @Test
@@ -370,6 +382,9 @@ class EmployeeIntegrationTest {
                         .withBody(objectMapper.writeValueAsString(deleteResponse)));
 
         mockMvc.perform(delete(BASE_URL + "/{id}", employeeId)).andExpect(status().isOk());
+        // The name came from the cached roster, so the delete was the only upstream call
+        mockServer.verify(
+                request().withMethod("GET").withPath("/api/v1/employee/" + employeeId), VerificationTimes.exactly(0));
 
         List<EmployeeDTO> remainingEmployees = Arrays.asList(
                 createEmployee("2", "Jane Smith", 85000, 28, "Senior Developer", "jane.smith@company.com"));
@@ -423,7 +438,7 @@ class EmployeeIntegrationTest {
 
     @Test
     @Order(14)
-    @DisplayName("Should test cache eviction on create")
+    @DisplayName("Should apply create to cached roster")
     void shouldTestCacheEvictionOnCreate() throws Exception {
         List<EmployeeDTO> initialEmployees =
                 Arrays.asList(createEmployee("1", "John Doe", 75000, 30, "Software Engineer", "john.doe@company.com"));
@@ -479,6 +494,8 @@ class EmployeeIntegrationTest {
                         .withBody(objectMapper.writeValueAsString(updatedResponse)));
 
         mockMvc.perform(get(BASE_URL)).andExpect(status().isOk()).andExpect(jsonPath("$", hasSize(2)));
+        // The create was applied to the cached roster, so the list is not fetched again
+        mockServer.verify(request().withMethod("GET").withPath("/api/v1/employee"), VerificationTimes.exactly(0));
     }
 
     @Test
@@ -567,6 +584,128 @@ class EmployeeIntegrationTest {
                 .andExpect(jsonPath("$[1].name", is("Bob Smith")));
     }
 
+    @Test
+    @Order(16)
+    @DisplayName("Should serve last-known-good employees with staleness headers while the circuit is open")
+    void shouldServeLastKnownGoodWhileCircuitIsOpen() throws Exception {
+        List<EmployeeDTO> employees = Arrays.asList(
+                createEmployee("1", "John Doe", 75000, 30, "Software Engineer", "john.doe@company.com"),
+                createEmployee("2", "Jane Smith", 85000, 28, "Senior Developer", "jane.smith@company.com"));
+        EmployeeListResponse response = new EmployeeListResponse();
+        response.setData(employees);
+        response.setStatus("success");
+
+        mockServer
+                .when(request().withMethod("GET").withPath("/api/v1/employee"))
+                .respond(response()
+                        .withStatusCode(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(objectMapper.writeValueAsString(response)));
+
+        mockMvc.perform(get(BASE_URL))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("X-Data-Stale-Since"));
+
+        mockServer.reset();
+        cacheManager.getCacheNames().forEach(name -> Objects.requireNonNull(cacheManager.getCache(name))
+                .clear());
+        circuitBreakerRegistry.circuitBreaker(EmployeeApiClient.CIRCUIT_BREAKER).transitionToOpenState();
+
+        mockMvc.perform(get(BASE_URL))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(header().exists("X-Data-Stale-Since"))
+                .andExpect(header().exists("Age"));
+        mockMvc.perform(get(BASE_URL + "/2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name", is("Jane Smith")))
+                .andExpect(header().exists("X-Data-Stale-Since"));
+
+        mockServer.verify(request().withPath("/api/v1/employee.*"), VerificationTimes.exactly(0));
+    }
+
+    @Test
+    @Order(17)
+    @DisplayName("Should publish upstream latency and cache meters through actuator")
+    void shouldPublishUpstreamAndCacheMeters() throws Exception {
+        EmployeeListResponse response = new EmployeeListResponse();
+        response.setData(List.of(createEmployee("1", "John Doe", 75000, 30, "Software Engineer", "john@company.com")));
+        response.setStatus("success");
+
+        mockServer
+                .when(request().withMethod("GET").withPath("/api/v1/employee"))
+                .respond(response()
+                        .withStatusCode(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(objectMapper.writeValueAsString(response)));
+
+        mockMvc.perform(get(BASE_URL)).andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/metrics/employee.upstream.requests").param("tag", "operation:fetchAll"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.measurements[?(@.statistic == 'COUNT')].value", hasItem(greaterThan(0.0))));
+        mockMvc.perform(get("/actuator/metrics/cache.gets").param("tag", "cache:employeesAll"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @Order(18)
+    @DisplayName("Should answer unchanged polls with 304 until the roster version changes")
+    void shouldAnswerConditionalGetsFromSnapshotVersion() throws Exception {
+        EmployeeListResponse response = new EmployeeListResponse();
+        response.setData(List.of(createEmployee("1", "John Doe", 75000, 30, "Software Engineer", "john@company.com")));
+        response.setStatus("success");
+
+        mockServer
+                .when(request().withMethod("GET").withPath("/api/v1/employee"))
+                .respond(response()
+                        .withStatusCode(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(objectMapper.writeValueAsString(response)));
+
+        String etag = mockMvc.perform(get(BASE_URL))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", containsString("must-revalidate")))
+                .andExpect(header().stringValues("Vary", hasItem("Accept")))
+                .andExpect(header().string("ETag", containsString("application/json")))
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        mockMvc.perform(get(BASE_URL).header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(content().string(""));
+        mockMvc.perform(get(BASE_URL + "/highestSalary").header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        EmployeeCreateRequest createRequest = new EmployeeCreateRequest();
+        createRequest.setName("New Employee");
+        createRequest.setSalary(80000);
+        createRequest.setAge(25);
+        createRequest.setTitle("Developer");
+        EmployeeResponse createResponse = new EmployeeResponse();
+        createResponse.setData(createEmployee("2", "New Employee", 80000, 25, "Developer", "new@company.com"));
+        createResponse.setStatus("success");
+
+        mockServer
+                .when(request().withMethod("POST").withPath("/api/v1/employee"))
+                .respond(response()
+                        .withStatusCode(201)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(objectMapper.writeValueAsString(createResponse)));
+
+        mockMvc.perform(post(BASE_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createRequest)))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get(BASE_URL).header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(etag)))
+                .andExpect(jsonPath("$", hasSize(2)));
+    }
+
     private EmployeeDTO createEmployee(
             String id, String name, Integer salary, Integer age, String title, String email) {
         EmployeeDTO employee = new EmployeeDTO();
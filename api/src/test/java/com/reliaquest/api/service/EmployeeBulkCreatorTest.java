@@ -0,0 +1,164 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.client.EmployeeApiClient;
+import com.reliaquest.api.dto.EmployeeBulkCreateRequest;
+import com.reliaquest.api.dto.EmployeeCreateRequest;
+import com.reliaquest.api.dto.EmployeeCreateResultDTO;
+import com.reliaquest.api.exception.ApiException;
+import com.reliaquest.api.store.Employee;
+import com.reliaquest.api.store.EmployeeSnapshotStore;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeBulkCreatorTest {
+
+    @Mock
+    private EmployeeApiClient employeeApiClient;
+
+    @Mock
+    private EmployeeSnapshotStore snapshotStore;
+
+    private EmployeeBulkCreator bulkCreator;
+
+    @BeforeEach
+    void setUp() {
+        bulkCreator = new EmployeeBulkCreator(employeeApiClient, snapshotStore, 4, 5000);
+    }
+
+    @Test
+    void testCreateAll_ReportsEachItemInRequestOrder() {
+        // The first create finishes last; results must still come back in request order
+        when(employeeApiClient.create(any(EmployeeCreateRequest.class))).thenAnswer(invocation -> {
+            EmployeeCreateRequest request = invocation.getArgument(0);
+            return switch (request.getName()) {
+                case "Slow" -> Mono.just(createEmployee("1", "Slow")).delayElement(Duration.ofMillis(50));
+                case "Rejected" -> Mono.error(new ApiException("Too many requests", HttpStatus.TOO_MANY_REQUESTS));
+                default -> Mono.just(createEmployee("3", request.getName()));
+            };
+        });
+
+        List<EmployeeCreateResultDTO> results = bulkCreator
+                .createAll(List.of(createRequest("Slow"), createRequest("Rejected"), createRequest("Fast")))
+                .block();
+
+        assertNotNull(results);
+        assertEquals(List.of(0, 1, 2), results.stream().map(EmployeeCreateResultDTO::index).toList());
+        assertEquals(201, results.get(0).status());
+        assertEquals("Slow", results.get(0).employee().getName());
+        assertEquals(429, results.get(1).status());
+        assertNull(results.get(1).employee());
+        assertEquals("Too many requests", results.get(1).error());
+        assertEquals(201, results.get(2).status());
+        verify(snapshotStore, times(1)).applyCreatedAll(argThat(created -> created.size() == 2));
+    }
+
+    @Test
+    void testCreateAll_UnexpectedErrorIsInternalServerError() {
+        when(employeeApiClient.create(any(EmployeeCreateRequest.class)))
+                .thenReturn(Mono.error(new IllegalStateException("boom")));
+
+        List<EmployeeCreateResultDTO> results =
+                bulkCreator.createAll(List.of(createRequest("Alice"))).block();
+
+        assertNotNull(results);
+        assertEquals(500, results.get(0).status());
+        verify(snapshotStore).applyCreatedAll(List.of());
+    }
+
+    @Test
+    void testCreateAll_AppliesCreatedEmployeesWhenCancelled() throws Exception {
+        // The stuck first item holds back the result of the second, which the upstream has already created
+        CountDownLatch createdUpstream = new CountDownLatch(1);
+        when(employeeApiClient.create(any(EmployeeCreateRequest.class))).thenAnswer(invocation -> {
+            EmployeeCreateRequest request = invocation.getArgument(0);
+            return "Stuck".equals(request.getName())
+                    ? Mono.never()
+                    : Mono.just(createEmployee("2", request.getName())).doOnNext(e -> createdUpstream.countDown());
+        });
+
+        Disposable batch = bulkCreator.createAll(List.of(createRequest("Stuck"), createRequest("Fast"))).subscribe();
+        assertTrue(createdUpstream.await(5, TimeUnit.SECONDS));
+        batch.dispose();
+
+        verify(snapshotStore)
+                .applyCreatedAll(argThat(created -> created.size() == 1 && "Fast".equals(created.get(0).name())));
+    }
+
+    @Test
+    void testCreateAll_ReportsTimedOutItemsAndAppliesCreatedEmployees() {
+        bulkCreator = new EmployeeBulkCreator(employeeApiClient, snapshotStore, 4, 50);
+        when(employeeApiClient.create(any(EmployeeCreateRequest.class))).thenAnswer(invocation -> {
+            EmployeeCreateRequest request = invocation.getArgument(0);
+            return "Stuck".equals(request.getName())
+                    ? Mono.never()
+                    : Mono.just(createEmployee("2", request.getName()));
+        });
+
+        List<EmployeeCreateResultDTO> results = bulkCreator
+                .createAll(List.of(createRequest("Stuck"), createRequest("Fast")))
+                .block();
+
+        assertNotNull(results);
+        assertEquals(List.of(504, 201), results.stream().map(EmployeeCreateResultDTO::status).toList());
+        assertNull(results.get(0).employee());
+        assertEquals("Fast", results.get(1).employee().getName());
+        verify(snapshotStore).applyCreatedAll(argThat(created -> created.size() == 1));
+    }
+
+    @Test
+    void testCreateAll_ReportsItemsNotStartedBeforeTimeout() {
+        bulkCreator = new EmployeeBulkCreator(employeeApiClient, snapshotStore, 1, 50);
+        when(employeeApiClient.create(any(EmployeeCreateRequest.class))).thenReturn(Mono.never());
+
+        List<EmployeeCreateResultDTO> results = bulkCreator
+                .createAll(List.of(createRequest("Stuck"), createRequest("Queued")))
+                .block();
+
+        assertNotNull(results);
+        assertEquals(List.of(0, 1), results.stream().map(EmployeeCreateResultDTO::index).toList());
+        assertEquals(List.of(504, 504), results.stream().map(EmployeeCreateResultDTO::status).toList());
+        assertTrue(results.get(1).error().startsWith("Not attempted"));
+        verify(employeeApiClient, times(1)).create(any(EmployeeCreateRequest.class));
+        verify(snapshotStore).applyCreatedAll(List.of());
+    }
+
+    @Test
+    void testCreateAll_RejectsOversizedBatch() {
+        List<EmployeeCreateRequest> requests =
+                Collections.nCopies(EmployeeBulkCreateRequest.MAX_EMPLOYEES + 1, createRequest("Alice"));
+
+        ApiException exception = assertThrows(ApiException.class, () -> bulkCreator.createAll(requests).block());
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatus());
+        verifyNoInteractions(employeeApiClient, snapshotStore);
+    }
+
+    private EmployeeCreateRequest createRequest(String name) {
+        EmployeeCreateRequest request = new EmployeeCreateRequest();
+        request.setName(name);
+        request.setSalary(50000);
+        request.setAge(30);
+        request.setTitle("Developer");
+        return request;
+    }
+
+    private Employee createEmployee(String id, String name) {
+        return new Employee(id, name, 50000, 30, "Developer", name.toLowerCase(), "example.com");
+    }
+}
@@ -2,151 +2,245 @@ package com.reliaquest.api.service;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
+import com.reliaquest.api.client.EmployeeApiClient;
 import com.reliaquest.api.dto.EmployeeCreateRequest;
 import com.reliaquest.api.dto.EmployeeDTO;
+import com.reliaquest.api.dto.EmployeeLookupDTO;
+import com.reliaquest.api.dto.EmployeePageDTO;
 import com.reliaquest.api.exception.ApiException;
-import com.reliaquest.api.model.EmployeeListResponse;
-import com.reliaquest.api.model.EmployeeResponse;
-import com.reliaquest.api.model.GenericResponse;
-import com.reliaquest.api.utils.Utils;
+import com.reliaquest.api.store.Employee;
+import com.reliaquest.api.store.EmployeeSnapshot;
+import com.reliaquest.api.store.EmployeeSnapshotStore;
+import com.reliaquest.api.store.EmployeeSnapshotStore.LastKnownEmployee;
+import com.reliaquest.api.utils.SingleFlight;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
-import org.junit.jupiter.api.BeforeEach;
+import java.util.Optional;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.aop.framework.AopContext;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
 import org.springframework.test.util.ReflectionTestUtils;
-import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
 @ExtendWith(MockitoExtension.class)
 class EmployeeServiceTest {
 
     @Mock
-    private WebClient webClient;
+    private EmployeeApiClient employeeApiClient;
 
     @Mock
-    private Utils utils;
+    private EmployeeSnapshotStore snapshotStore;
 
-    @Mock
-    private WebClient.RequestHeadersUriSpec requestHeadersUriSpec;
+    @Spy
+    private SingleFlight singleFlight = new SingleFlight(new SimpleMeterRegistry());
 
-    @Mock
-    private WebClient.RequestBodyUriSpec requestBodyUriSpec;
+    @Spy
+    private EmployeePager employeePager = new EmployeePager(2, 10);
 
-    @Mock
-    private WebClient.RequestHeadersSpec requestHeadersSpec;
+    @InjectMocks
+    private EmployeeServiceImpl employeeService;
 
-    @Mock
-    private WebClient.ResponseSpec responseSpec;
+    @Test
+    void testFetchSnapshot_ReturnsEmployees() {
+        List<Employee> employees =
+                Arrays.asList(createEmployee("1", "Alice", 50000), createEmployee("2", "Bob", 60000));
 
-    @Mock
-    private Mono<ResponseEntity<EmployeeListResponse>> employeeListResponseMono;
+        when(employeeApiClient.fetchAll()).thenReturn(Mono.just(employees));
 
-    @Mock
-    private Mono<ResponseEntity<EmployeeResponse>> employeeResponseMono;
+        List<Employee> result = employeeService.fetchSnapshot().getEmployees();
+        assertEquals(2, result.size());
+        assertEquals("Alice", result.get(0).name());
+        assertEquals("Bob", result.get(1).name());
+    }
 
-    @Mock
-    private Mono<ResponseEntity<GenericResponse>> genericResponseMono;
+    @Test
+    void testFetchSnapshot_ReturnsEmptyListOnEmptyResponse() {
+        when(employeeApiClient.fetchAll()).thenReturn(Mono.just(List.of()));
 
-    @InjectMocks
-    private EmployeeServiceImpl employeeService;
+        List<Employee> result = employeeService.fetchSnapshot().getEmployees();
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void testFetchById_FetchesUpstreamOnSnapshotMiss() {
+        String id = "1";
+        Employee employee = createEmployee(id, "Alice", 50000);
 
-    @BeforeEach
-    void setUp() {
-        ReflectionTestUtils.setField(employeeService, "serverBaseUrl", "http://localhost:8112/api/v1");
+        when(employeeApiClient.fetchById(id)).thenReturn(Mono.just(employee));
+
+        Employee result = employeeService.fetchById(id);
+        assertEquals("Alice", result.name());
+        assertEquals(id, result.id());
     }
 
     @Test
-    void testFetchAll_ReturnsEmployees() {
-        List<EmployeeDTO> employees =
-                Arrays.asList(createEmployee("1", "Alice", 50000), createEmployee("2", "Bob", 60000));
-        EmployeeListResponse listResponse = new EmployeeListResponse();
-        listResponse.setData(employees);
-        ResponseEntity<EmployeeListResponse> responseEntity = new ResponseEntity<>(listResponse, HttpStatus.OK);
-
-        when(webClient.get()).thenReturn(requestHeadersUriSpec);
-        when(requestHeadersUriSpec.uri(anyString())).thenReturn(requestHeadersSpec);
-        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
-        when(utils.addExceptionHandling(responseSpec)).thenReturn(responseSpec);
-        when(responseSpec.toEntity(EmployeeListResponse.class)).thenReturn(employeeListResponseMono);
-        when(employeeListResponseMono.block()).thenReturn(responseEntity);
-
-        List<EmployeeDTO> result = employeeService.fetchAll();
-        assertEquals(2, result.size());
-        assertEquals("Alice", result.get(0).getName());
-        assertEquals("Bob", result.get(1).getName());
+    void testFetchById_ServedFromCurrentSnapshot() {
+        Employee employee = createEmployee("1", "Alice", 50000);
+        when(snapshotStore.current()).thenReturn(Optional.of(EmployeeSnapshot.of(List.of(employee))));
+
+        Employee result = employeeService.fetchById("1");
+
+        assertSame(employee, result);
+        verifyNoInteractions(employeeApiClient);
     }
 
     @Test
-    void testFetchAll_ReturnsEmptyListOnNullResponse() {
-        when(webClient.get()).thenReturn(requestHeadersUriSpec);
-        when(requestHeadersUriSpec.uri(anyString())).thenReturn(requestHeadersSpec);
-        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
-        when(utils.addExceptionHandling(responseSpec)).thenReturn(responseSpec);
-        when(responseSpec.toEntity(EmployeeListResponse.class)).thenReturn(employeeListResponseMono);
-        when(employeeListResponseMono.block()).thenReturn(null);
-
-        List<EmployeeDTO> result = employeeService.fetchAll();
-        assertTrue(result.isEmpty());
+    void testFetchById_CoalescesUpstreamCallOnSnapshotMiss() {
+        Employee employee = createEmployee("1", "Alice", 50000);
+        when(employeeApiClient.fetchById("1")).thenReturn(Mono.just(employee));
+
+        Employee result = employeeService.fetchById("1");
+
+        assertSame(employee, result);
+        verify(singleFlight).execute(eq("fetchById"), eq("1"), any());
+    }
+
+    @Test
+    void testFetchById_ServesLastKnownGoodWhileCircuitIsOpen() {
+        Employee employee = createEmployee("1", "Alice", 50000);
+        when(snapshotStore.current()).thenReturn(Optional.empty());
+        when(employeeApiClient.fetchById("1")).thenReturn(Mono.error(circuitOpen()));
+        when(snapshotStore.lastKnownEmployee("1"))
+                .thenReturn(Optional.of(new LastKnownEmployee(employee, Instant.now())));
+
+        assertSame(employee, employeeService.fetchById("1"));
     }
 
     @Test
-    void testFetchAll_ReturnsEmptyListOnNullBody() {
-        ResponseEntity<EmployeeListResponse> responseEntity = new ResponseEntity<>(null, HttpStatus.OK);
+    void testFetchById_ThrowsServiceUnavailableWhenCircuitIsOpenWithoutFallback() {
+        when(snapshotStore.current()).thenReturn(Optional.empty());
+        when(employeeApiClient.fetchById("1")).thenReturn(Mono.error(circuitOpen()));
+        when(snapshotStore.lastKnownEmployee("1")).thenReturn(Optional.empty());
 
-        when(webClient.get()).thenReturn(requestHeadersUriSpec);
-        when(requestHeadersUriSpec.uri(anyString())).thenReturn(requestHeadersSpec);
-        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
-        when(utils.addExceptionHandling(responseSpec)).thenReturn(responseSpec);
-        when(responseSpec.toEntity(EmployeeListResponse.class)).thenReturn(employeeListResponseMono);
-        when(employeeListResponseMono.block()).thenReturn(responseEntity);
+        ApiException exception = assertThrows(ApiException.class, () -> employeeService.fetchById("1"));
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exception.getStatus());
+    }
 
-        List<EmployeeDTO> result = employeeService.fetchAll();
-        assertTrue(result.isEmpty());
+    @Test
+    void testSnapshot_ServesLastKnownGoodWhileCircuitIsOpen() {
+        EmployeeSnapshot lastKnownGood = EmployeeSnapshot.of(List.of(createEmployee("1", "Alice", 50000)));
+        when(employeeApiClient.fetchAll()).thenReturn(Mono.error(circuitOpen()));
+        when(snapshotStore.lastKnownGood()).thenReturn(Optional.of(lastKnownGood));
+
+        assertSame(lastKnownGood, employeeService.snapshot());
     }
 
     @Test
-    void testFetchById_ReturnsEmployee() {
-        String id = "1";
-        EmployeeDTO employee = createEmployee(id, "Alice", 50000);
-        EmployeeResponse empResponse = new EmployeeResponse();
-        empResponse.setData(employee);
-        ResponseEntity<EmployeeResponse> responseEntity = new ResponseEntity<>(empResponse, HttpStatus.OK);
+    void testFetchByIds_AnswersFromCachedDataWithoutLoading() {
+        Employee alice = createEmployee("1", "Alice", 50000);
+        Employee bob = createEmployee("2", "Bob", 60000);
+        when(snapshotStore.findCached("1")).thenReturn(Optional.of(alice));
+        when(snapshotStore.findCached("2")).thenReturn(Optional.of(bob));
+
+        List<EmployeeLookupDTO> result = employeeService.fetchByIds(List.of("1", "2", "1"));
+
+        assertEquals(List.of("1", "2", "1"), result.stream().map(EmployeeLookupDTO::id).toList());
+        assertEquals(List.of(200, 200, 200), result.stream().map(EmployeeLookupDTO::status).toList());
+        assertEquals(alice.toDto(), result.get(0).employee());
+        verify(snapshotStore).findCached("1");
+        verify(snapshotStore, never()).beginFetch();
+        verifyNoInteractions(employeeApiClient);
+    }
+
+    @Test
+    void testFetchByIds_ReloadsCachedRosterOnceForAllMisses() {
+        Employee alice = createEmployee("1", "Alice", 50000);
+        Employee bob = createEmployee("2", "Bob", 60000);
+        when(snapshotStore.findCached("1")).thenReturn(Optional.of(alice));
+        when(snapshotStore.findCached("2")).thenReturn(Optional.empty());
+        when(snapshotStore.findCached("3")).thenReturn(Optional.empty());
+        when(snapshotStore.current()).thenReturn(Optional.of(EmployeeSnapshot.of(List.of(alice))));
+        when(employeeApiClient.fetchAll()).thenReturn(Mono.just(List.of(alice, bob)));
+        when(snapshotStore.publish(any(), anyLong())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<EmployeeLookupDTO> result = employeeService.fetchByIds(List.of("1", "2", "3"));
+
+        assertEquals(List.of(200, 200, 404), result.stream().map(EmployeeLookupDTO::status).toList());
+        assertEquals("Bob", result.get(1).employee().getName());
+        verify(employeeApiClient, times(1)).fetchAll();
+        verify(snapshotStore).publish(any(), anyLong());
+    }
+
+    @Test
+    void testFetchByIds_TrustsRecentlyFetchedRosterAboutMisses() {
+        Employee alice = createEmployee("1", "Alice", 50000);
+        ReflectionTestUtils.setField(employeeService, "minReloadAgeMillis", 60_000L);
+        when(snapshotStore.findCached("1")).thenReturn(Optional.of(alice));
+        when(snapshotStore.findCached("2")).thenReturn(Optional.empty());
+        when(snapshotStore.current()).thenReturn(Optional.of(EmployeeSnapshot.of(List.of(alice))));
+
+        List<EmployeeLookupDTO> result = employeeService.fetchByIds(List.of("1", "2"));
+
+        assertEquals(List.of(200, 404), result.stream().map(EmployeeLookupDTO::status).toList());
+        verifyNoInteractions(employeeApiClient);
+        verify(snapshotStore, never()).beginFetch();
+    }
+
+    @Test
+    void testFetchByIds_ReportsUnavailableWhenCircuitOpenDuringReload() {
+        Employee alice = createEmployee("1", "Alice", 50000);
+        when(snapshotStore.findCached("1")).thenReturn(Optional.of(alice));
+        when(snapshotStore.findCached("2")).thenReturn(Optional.empty());
+        when(snapshotStore.current()).thenReturn(Optional.of(EmployeeSnapshot.of(List.of(alice))));
+        when(employeeApiClient.fetchAll()).thenReturn(Mono.error(circuitOpen()));
+
+        List<EmployeeLookupDTO> result = employeeService.fetchByIds(List.of("1", "2"));
 
-        when(webClient.get()).thenReturn(requestHeadersUriSpec);
-        when(requestHeadersUriSpec.uri(anyString())).thenReturn(requestHeadersSpec);
-        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
-        when(utils.addExceptionHandling(responseSpec)).thenReturn(responseSpec);
-        when(responseSpec.toEntity(EmployeeResponse.class)).thenReturn(employeeResponseMono);
-        when(employeeResponseMono.block()).thenReturn(responseEntity);
+        assertEquals(List.of(200, 503), result.stream().map(EmployeeLookupDTO::status).toList());
+        verify(snapshotStore, never()).publish(any(), anyLong());
+    }
 
-        EmployeeDTO result = employeeService.fetchById(id);
-        assertEquals("Alice", result.getName());
-        assertEquals(id, result.getId());
+    @Test
+    void testFetchByIds_LoadsRosterOnceForAllMisses() {
+        when(snapshotStore.findCached(any())).thenReturn(Optional.empty());
+        when(snapshotStore.current()).thenReturn(Optional.empty());
+        when(employeeApiClient.fetchAll())
+                .thenReturn(Mono.just(List.of(createEmployee("1", "Alice", 50000), createEmployee("2", "Bob", 60000))));
+        when(snapshotStore.publish(any(), anyLong())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<EmployeeLookupDTO> result = employeeService.fetchByIds(List.of("1", "2", "3"));
+
+        assertEquals(List.of(200, 200, 404), result.stream().map(EmployeeLookupDTO::status).toList());
+        assertEquals("Bob", result.get(1).employee().getName());
+        assertNull(result.get(2).employee());
+        verify(employeeApiClient, times(1)).fetchAll();
+    }
+
+    @Test
+    void testFetchByIds_ReportsUpstreamStatusForMisses() {
+        Employee alice = createEmployee("1", "Alice", 50000);
+        when(snapshotStore.findCached("1")).thenReturn(Optional.of(alice));
+        when(snapshotStore.findCached("2")).thenReturn(Optional.empty());
+        when(snapshotStore.current()).thenReturn(Optional.empty());
+        when(employeeApiClient.fetchAll()).thenReturn(Mono.error(circuitOpen()));
+        when(snapshotStore.lastKnownGood()).thenReturn(Optional.empty());
+
+        List<EmployeeLookupDTO> result = employeeService.fetchByIds(List.of("1", "2"));
+
+        assertEquals(List.of(200, 503), result.stream().map(EmployeeLookupDTO::status).toList());
     }
 
     @Test
     void testFetchById_ThrowsApiExceptionOnNotFound() {
         String id = "999";
 
-        when(webClient.get()).thenReturn(requestHeadersUriSpec);
-        when(requestHeadersUriSpec.uri(anyString())).thenReturn(requestHeadersSpec);
-        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
-        when(utils.addExceptionHandling(responseSpec)).thenReturn(responseSpec);
-        when(responseSpec.toEntity(EmployeeResponse.class)).thenReturn(employeeResponseMono);
-        when(employeeResponseMono.block()).thenReturn(null);
+        when(employeeApiClient.fetchById(id))
+                .thenReturn(Mono.error(new ApiException("Employee not found for id " + id, HttpStatus.NOT_FOUND)));
 
         ApiException exception = assertThrows(ApiException.class, () -> employeeService.fetchById(id));
         assertEquals(HttpStatus.NOT_FOUND, exception.getStatus());
@@ -156,44 +250,38 @@ class EmployeeServiceTest {
     @Test
     void testSearchByName_ReturnsMatchingEmployees() {
         EmployeeServiceImpl spyService = spy(employeeService);
-        List<EmployeeDTO> employees = Arrays.asList(
+        List<Employee> employees = Arrays.asList(
                 createEmployee("1", "Alice", 50000),
                 createEmployee("2", "Bob", 60000),
                 createEmployee("3", "Alicia", 55000));
 
-        try (MockedStatic<AopContext> aopContextMock = mockStatic(AopContext.class)) {
-            aopContextMock.when(AopContext::currentProxy).thenReturn(spyService);
-            doReturn(employees).when(spyService).fetchAll();
+        doReturn(EmployeeSnapshot.of(employees)).when(spyService).snapshot();
 
-            List<EmployeeDTO> result = spyService.searchByName("ali");
+        List<Employee> result = spyService.searchByName("ali");
 
-            assertEquals(2, result.size());
-            assertTrue(result.stream().anyMatch(e -> e.getName().equals("Alice")));
-            assertTrue(result.stream().anyMatch(e -> e.getName().equals("Alicia")));
-        }
+        assertEquals(2, result.size());
+        assertTrue(result.stream().anyMatch(e -> e.name().equals("Alice")));
+        assertTrue(result.stream().anyMatch(e -> e.name().equals("Alicia")));
     }
 
     @Test
     void testSearchByName_CaseInsensitive() {
         EmployeeServiceImpl spyService = spy(employeeService);
-        List<EmployeeDTO> employees =
+        List<Employee> employees =
                 Arrays.asList(createEmployee("1", "ALICE", 50000), createEmployee("2", "bob", 60000));
 
-        try (MockedStatic<AopContext> aopContextMock = mockStatic(AopContext.class)) {
-            aopContextMock.when(AopContext::currentProxy).thenReturn(spyService);
-            doReturn(employees).when(spyService).fetchAll();
+        doReturn(EmployeeSnapshot.of(employees)).when(spyService).snapshot();
 
-            List<EmployeeDTO> result = spyService.searchByName("alice");
+        List<Employee> result = spyService.searchByName("alice");
 
-            assertEquals(1, result.size());
-            assertEquals("ALICE", result.get(0).getName());
-        }
+        assertEquals(1, result.size());
+        assertEquals("ALICE", result.get(0).name());
     }
 
     @Test
     void testGetTopTenEmployeeNamesBySalary_ReturnsTopTen() {
         EmployeeServiceImpl spyService = spy(employeeService);
-        List<EmployeeDTO> employees = Arrays.asList(
+        List<Employee> employees = Arrays.asList(
                 createEmployee("1", "A", 100000),
                 createEmployee("2", "B", 200000),
                 createEmployee("3", "C", 300000),
@@ -207,68 +295,111 @@ class EmployeeServiceTest {
                 createEmployee("11", "K", 1100000),
                 createEmployee("12", "L", 1200000));
 
-        try (MockedStatic<AopContext> aopContextMock = mockStatic(AopContext.class)) {
-            aopContextMock.when(AopContext::currentProxy).thenReturn(spyService);
-            doReturn(employees).when(spyService).fetchAll();
+        doReturn(EmployeeSnapshot.of(employees)).when(spyService).snapshot();
 
-            List<String> result = spyService.getTopTenEmployeeNamesBySalary();
+        List<String> result = spyService.getTopTenEmployeeNamesBySalary();
 
-            assertEquals(10, result.size());
-            assertEquals("L", result.get(0)); // Highest salary
-            assertEquals("C", result.get(9)); // 10th highest salary
-        }
+        assertEquals(10, result.size());
+        assertEquals("L", result.get(0)); // Highest salary
+        assertEquals("C", result.get(9)); // 10th highest salary
     }
 
     @Test
     void testGetTopTenEmployeeNamesBySalary_LessThanTenEmployees() {
         EmployeeServiceImpl spyService = spy(employeeService);
-        List<EmployeeDTO> employees = Arrays.asList(
+        List<Employee> employees = Arrays.asList(
                 createEmployee("1", "Alice", 50000),
                 createEmployee("2", "Bob", 60000),
                 createEmployee("3", "Charlie", 70000));
 
-        try (MockedStatic<AopContext> aopContextMock = mockStatic(AopContext.class)) {
-            aopContextMock.when(AopContext::currentProxy).thenReturn(spyService);
-            doReturn(employees).when(spyService).fetchAll();
+        doReturn(EmployeeSnapshot.of(employees)).when(spyService).snapshot();
 
-            List<String> result = spyService.getTopTenEmployeeNamesBySalary();
+        List<String> result = spyService.getTopTenEmployeeNamesBySalary();
 
-            assertEquals(3, result.size());
-            assertEquals("Charlie", result.get(0));
-            assertEquals("Alice", result.get(2));
-        }
+        assertEquals(3, result.size());
+        assertEquals("Charlie", result.get(0));
+        assertEquals("Alice", result.get(2));
+    }
+
+    @Test
+    void testGetPage_WalksRosterInIdOrder() {
+        EmployeeServiceImpl spyService = spy(employeeService);
+        List<Employee> employees = Arrays.asList(
+                createEmployee("c", "Charlie", 70000),
+                createEmployee("a", "Alice", 50000),
+                createEmployee("b", "Bob", 60000));
+
+        doReturn(EmployeeSnapshot.of(employees)).when(spyService).snapshot();
+
+        EmployeePageDTO first = spyService.getPage(null, null);
+        EmployeePageDTO last = spyService.getPage(first.nextCursor(), null);
+
+        assertEquals(List.of("a", "b"), first.employees().stream().map(EmployeeDTO::getId).toList());
+        assertEquals(List.of("c"), last.employees().stream().map(EmployeeDTO::getId).toList());
+        assertNull(last.nextCursor());
+    }
+
+    @Test
+    void testGetPage_RejectsBadLimitAndCursor() {
+        ApiException badLimit = assertThrows(ApiException.class, () -> employeeService.getPage(null, 11));
+        ApiException badCursor = assertThrows(ApiException.class, () -> employeeService.getPage("not a cursor", 5));
+
+        assertEquals(HttpStatus.BAD_REQUEST, badLimit.getStatus());
+        assertEquals(HttpStatus.BAD_REQUEST, badCursor.getStatus());
+        verify(snapshotStore, never()).beginFetch();
+    }
+
+    @Test
+    void testGetTopEarners_ReturnsHighestSalariesFirst() {
+        EmployeeServiceImpl spyService = spy(employeeService);
+        List<Employee> employees = Arrays.asList(
+                createEmployee("1", "Alice", 50000),
+                createEmployee("2", "Bob", 60000),
+                createEmployee("3", "Charlie", 70000));
+
+        doReturn(EmployeeSnapshot.of(employees)).when(spyService).snapshot();
+
+        List<Employee> result = spyService.getTopEarners(2);
+
+        assertEquals(2, result.size());
+        assertEquals("Charlie", result.get(0).name());
+        assertEquals("Bob", result.get(1).name());
+    }
+
+    @Test
+    void testGetTopEarners_RejectsCountOutOfRange() {
+        ApiException tooSmall = assertThrows(ApiException.class, () -> employeeService.getTopEarners(0));
+        ApiException tooLarge = assertThrows(
+                ApiException.class, () -> employeeService.getTopEarners(EmployeeSnapshot.MAX_TOP_EARNERS + 1));
+
+        assertEquals(HttpStatus.BAD_REQUEST, tooSmall.getStatus());
+        assertEquals(HttpStatus.BAD_REQUEST, tooLarge.getStatus());
     }
 
     @Test
     void testGetHighestSalary_ReturnsMaxSalary() {
         EmployeeServiceImpl spyService = spy(employeeService);
-        List<EmployeeDTO> employees = Arrays.asList(
+        List<Employee> employees = Arrays.asList(
                 createEmployee("1", "Alice", 50000),
                 createEmployee("2", "Bob", 100000),
                 createEmployee("3", "Charlie", 75000));
 
-        try (MockedStatic<AopContext> aopContextMock = mockStatic(AopContext.class)) {
-            aopContextMock.when(AopContext::currentProxy).thenReturn(spyService);
-            doReturn(employees).when(spyService).fetchAll();
+        doReturn(EmployeeSnapshot.of(employees)).when(spyService).snapshot();
 
-            int result = spyService.getHighestSalary();
+        int result = spyService.getHighestSalary();
 
-            assertEquals(100000, result);
-        }
+        assertEquals(100000, result);
     }
 
     @Test
     void testGetHighestSalary_ReturnsZeroForEmptyList() {
         EmployeeServiceImpl spyService = spy(employeeService);
 
-        try (MockedStatic<AopContext> aopContextMock = mockStatic(AopContext.class)) {
-            aopContextMock.when(AopContext::currentProxy).thenReturn(spyService);
-            doReturn(Collections.emptyList()).when(spyService).fetchAll();
+        doReturn(EmployeeSnapshot.of(Collections.emptyList())).when(spyService).snapshot();
 
-            int result = spyService.getHighestSalary();
+        int result = spyService.getHighestSalary();
 
-            assertEquals(0, result);
-        }
+        assertEquals(0, result);
     }
 
     @Test
@@ -279,23 +410,13 @@ class EmployeeServiceTest {
         request.setAge(30);
         request.setTitle("Engineer");
 
-        EmployeeDTO createdEmployee = createEmployee("1", "Alice", 50000);
-        EmployeeResponse empResponse = new EmployeeResponse();
-        empResponse.setData(createdEmployee);
-        ResponseEntity<EmployeeResponse> responseEntity = new ResponseEntity<>(empResponse, HttpStatus.OK);
-
-        when(webClient.post()).thenReturn(requestBodyUriSpec);
-        when(requestBodyUriSpec.uri(anyString())).thenReturn(requestBodyUriSpec);
-        when(requestBodyUriSpec.header(anyString(), anyString())).thenReturn(requestBodyUriSpec);
-        when(requestBodyUriSpec.bodyValue(request)).thenReturn(requestHeadersSpec);
-        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
-        when(utils.addExceptionHandling(responseSpec)).thenReturn(responseSpec);
-        when(responseSpec.toEntity(EmployeeResponse.class)).thenReturn(employeeResponseMono);
-        when(employeeResponseMono.block()).thenReturn(responseEntity);
+        Employee created = createEmployee("1", "Alice", 50000);
+        when(employeeApiClient.create(request)).thenReturn(Mono.just(created));
 
-        EmployeeDTO result = employeeService.create(request);
-        assertEquals("Alice", result.getName());
-        assertEquals(50000, result.getSalary());
+        Employee result = employeeService.create(request);
+        assertEquals("Alice", result.name());
+        assertEquals(50000, result.salary());
+        verify(snapshotStore).applyCreated(created);
     }
 
     @Test
@@ -306,14 +427,9 @@ class EmployeeServiceTest {
         request.setAge(30);
         request.setTitle("Engineer");
 
-        when(webClient.post()).thenReturn(requestBodyUriSpec);
-        when(requestBodyUriSpec.uri(anyString())).thenReturn(requestBodyUriSpec);
-        when(requestBodyUriSpec.header(anyString(), anyString())).thenReturn(requestBodyUriSpec);
-        when(requestBodyUriSpec.bodyValue(request)).thenReturn(requestHeadersSpec);
-        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
-        when(utils.addExceptionHandling(responseSpec)).thenReturn(responseSpec);
-        when(responseSpec.toEntity(EmployeeResponse.class)).thenReturn(employeeResponseMono);
-        when(employeeResponseMono.block()).thenReturn(null);
+        when(employeeApiClient.create(request))
+                .thenReturn(
+                        Mono.error(new ApiException("Failed to create employee", HttpStatus.INTERNAL_SERVER_ERROR)));
 
         ApiException exception = assertThrows(ApiException.class, () -> employeeService.create(request));
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, exception.getStatus());
@@ -324,92 +440,60 @@ class EmployeeServiceTest {
     void testDeleteById_ReturnsEmployeeName() {
         String id = "1";
         EmployeeServiceImpl spyService = spy(employeeService);
-        EmployeeDTO employee = createEmployee(id, "Alice", 50000);
-
-        GenericResponse genResponse = new GenericResponse();
-        genResponse.setData("true");
-        ResponseEntity<GenericResponse> responseEntity = new ResponseEntity<>(genResponse, HttpStatus.OK);
+        Employee employee = createEmployee(id, "Alice", 50000);
 
         try (MockedStatic<AopContext> aopContextMock = mockStatic(AopContext.class)) {
             aopContextMock.when(AopContext::currentProxy).thenReturn(spyService);
             doReturn(employee).when(spyService).fetchById(id);
-
-            when(webClient.method(any())).thenReturn(requestBodyUriSpec);
-            when(requestBodyUriSpec.uri(anyString())).thenReturn(requestBodyUriSpec);
-            when(requestBodyUriSpec.bodyValue(any(Map.class))).thenReturn(requestHeadersSpec);
-            when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
-            when(utils.addExceptionHandling(responseSpec)).thenReturn(responseSpec);
-            when(responseSpec.toEntity(GenericResponse.class)).thenReturn(genericResponseMono);
-            when(genericResponseMono.block()).thenReturn(responseEntity);
+            when(employeeApiClient.deleteByName(id, "Alice")).thenReturn(Mono.just("Alice"));
 
             String result = spyService.deleteById(id);
             assertEquals("Alice", result);
+            verify(snapshotStore).applyDeleted(employee);
+            // A cache miss goes upstream; last-known-good data is not used to resolve the name
+            verify(snapshotStore, never()).lastKnownEmployee(any());
         }
     }
 
+    @Test
+    void testDeleteById_ResolvesNameLocallyWithoutFetchingEmployee() {
+        Employee employee = createEmployee("1", "Alice", 50000);
+        when(snapshotStore.findCached("1")).thenReturn(Optional.of(employee));
+        when(employeeApiClient.deleteByName("1", "Alice")).thenReturn(Mono.just("Alice"));
+
+        assertEquals("Alice", employeeService.deleteById("1"));
+        verify(employeeApiClient, never()).fetchById(any());
+        verify(snapshotStore).applyDeleted(employee);
+    }
+
     @Test
     void testDeleteById_ThrowsApiExceptionOnFailure() {
         String id = "1";
         EmployeeServiceImpl spyService = spy(employeeService);
-        EmployeeDTO employee = createEmployee(id, "Alice", 50000);
-
-        ResponseEntity<GenericResponse> responseEntity = new ResponseEntity<>(null, HttpStatus.INTERNAL_SERVER_ERROR);
+        Employee employee = createEmployee(id, "Alice", 50000);
 
         try (MockedStatic<AopContext> aopContextMock = mockStatic(AopContext.class)) {
             aopContextMock.when(AopContext::currentProxy).thenReturn(spyService);
             doReturn(employee).when(spyService).fetchById(id);
-
-            when(webClient.method(any())).thenReturn(requestBodyUriSpec);
-            when(requestBodyUriSpec.uri(anyString())).thenReturn(requestBodyUriSpec);
-            when(requestBodyUriSpec.bodyValue(any(Map.class))).thenReturn(requestHeadersSpec);
-            when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
-            when(utils.addExceptionHandling(responseSpec)).thenReturn(responseSpec);
-            when(responseSpec.toEntity(GenericResponse.class)).thenReturn(genericResponseMono);
-            when(genericResponseMono.block()).thenReturn(responseEntity);
+            when(employeeApiClient.deleteByName(id, "Alice"))
+                    .thenReturn(Mono.error(new ApiException(
+                            "Failed to delete employee with id " + id, HttpStatus.INTERNAL_SERVER_ERROR)));
 
             ApiException exception = assertThrows(ApiException.class, () -> spyService.deleteById(id));
             assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, exception.getStatus());
             assertTrue(exception.getMessage().contains("Failed to delete employee with id " + id));
+            verify(snapshotStore, never()).applyDeleted(any());
         }
     }
 
-    @Test
-    void testDeleteById_ThrowsApiExceptionOnFalseResponse() {
-        String id = "1";
-        EmployeeServiceImpl spyService = spy(employeeService);
-        EmployeeDTO employee = createEmployee(id, "Alice", 50000);
-
-        GenericResponse genResponse = new GenericResponse();
-        genResponse.setData("false");
-        ResponseEntity<GenericResponse> responseEntity = new ResponseEntity<>(genResponse, HttpStatus.OK);
-
-        try (MockedStatic<AopContext> aopContextMock = mockStatic(AopContext.class)) {
-            aopContextMock.when(AopContext::currentProxy).thenReturn(spyService);
-            doReturn(employee).when(spyService).fetchById(id);
-
-            when(webClient.method(any())).thenReturn(requestBodyUriSpec);
-            when(requestBodyUriSpec.uri(anyString())).thenReturn(requestBodyUriSpec);
-            when(requestBodyUriSpec.bodyValue(any(Map.class))).thenReturn(requestHeadersSpec);
-            when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
-            when(utils.addExceptionHandling(responseSpec)).thenReturn(responseSpec);
-            when(responseSpec.toEntity(GenericResponse.class)).thenReturn(genericResponseMono);
-            when(genericResponseMono.block()).thenReturn(responseEntity);
-
-            ApiException exception = assertThrows(ApiException.class, () -> spyService.deleteById(id));
-            assertEquals(HttpStatus.OK, exception.getStatus());
-            assertTrue(exception.getMessage().contains("Failed to delete employee with id " + id));
-        }
+    private CallNotPermittedException circuitOpen() {
+        CircuitBreaker circuitBreaker = CircuitBreaker.ofDefaults("employeeApi");
+        circuitBreaker.transitionToOpenState();
+        return CallNotPermittedException.createCallNotPermittedException(circuitBreaker);
     }
 
     // Helper method to create test employee DTOs
-    private EmployeeDTO createEmployee(String id, String name, int salary) {
-        EmployeeDTO dto = new EmployeeDTO();
-        dto.setId(id);
-        dto.setName(name);
-        dto.setSalary(salary);
-        dto.setAge(30);
-        dto.setTitle("Engineer");
-        dto.setEmail(name.toLowerCase() + "@example.com");
-        return dto;
+    private Employee createEmployee(String id, String name, int salary) {
+        return new Employee(id, name, salary, 30, "Engineer", name.toLowerCase(), "example.com");
     }
 }
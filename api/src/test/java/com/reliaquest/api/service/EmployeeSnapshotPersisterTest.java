@@ -0,0 +1,113 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.store.Employee;
+import com.reliaquest.api.store.EmployeeInterner;
+import com.reliaquest.api.store.EmployeeSnapshot;
+import com.reliaquest.api.store.EmployeeSnapshotFile;
+import com.reliaquest.api.store.EmployeeSnapshotStore;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeSnapshotPersisterTest {
+
+    @Mock
+    private EmployeeSnapshotStore snapshotStore;
+
+    @Mock
+    private EmployeeSnapshotRefresher refresher;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    @TempDir
+    Path directory;
+
+    private final EmployeeInterner interner = new EmployeeInterner();
+    private Path path;
+    private EmployeeSnapshotPersister persister;
+
+    @BeforeEach
+    void setUp() {
+        path = directory.resolve("employees.snapshot");
+        persister = new EmployeeSnapshotPersister(
+                snapshotStore, refresher, interner, taskScheduler, path, 60_000L, 1_800_000L, 240_000L);
+    }
+
+    @Test
+    void testRestore_PublishesFileAndSchedulesRefresh() throws IOException {
+        EmployeeSnapshotFile.write(path, EmployeeSnapshot.of(List.of(createEmployee("1", "Alice"))));
+
+        persister.restore();
+
+        ArgumentCaptor<EmployeeSnapshot> published = ArgumentCaptor.forClass(EmployeeSnapshot.class);
+        verify(snapshotStore).publish(published.capture());
+        assertEquals("Alice", published.getValue().findById("1").orElseThrow().name());
+        verify(taskScheduler).schedule(any(Runnable.class), any(Instant.class));
+    }
+
+    @Test
+    void testRestore_IgnoresMissingFile() {
+        persister.restore();
+
+        verifyNoInteractions(snapshotStore, taskScheduler);
+    }
+
+    @Test
+    void testRestore_IgnoresFileOlderThanMaxAge() throws IOException {
+        EmployeeSnapshotFile.write(path, EmployeeSnapshot.of(List.of(createEmployee("1", "Alice"))));
+        persister = new EmployeeSnapshotPersister(
+                snapshotStore, refresher, interner, taskScheduler, path, 0L, 1_800_000L, 240_000L);
+
+        persister.restore();
+
+        verifyNoInteractions(snapshotStore, taskScheduler);
+    }
+
+    @Test
+    void testRestore_IgnoresFileWithoutTimeToRefreshBeforeExpiry() throws IOException {
+        EmployeeSnapshotFile.write(path, EmployeeSnapshot.of(List.of(createEmployee("1", "Alice"))));
+        // max-stale leaves no room for a refresh interval, so no file is young enough however large max-age is
+        persister = new EmployeeSnapshotPersister(
+                snapshotStore, refresher, interner, taskScheduler, path, 60_000L, 240_000L, 240_000L);
+
+        persister.restore();
+
+        verifyNoInteractions(snapshotStore, taskScheduler);
+    }
+
+    @Test
+    void testSaveIfChanged_WritesEachVersionOnce() throws IOException {
+        EmployeeSnapshot snapshot = EmployeeSnapshot.of(List.of(createEmployee("1", "Alice")));
+        when(snapshotStore.current()).thenReturn(Optional.of(snapshot));
+
+        persister.saveIfChanged();
+        Files.delete(path);
+        persister.saveIfChanged();
+
+        assertFalse(Files.exists(path));
+        when(snapshotStore.current()).thenReturn(Optional.of(snapshot.withRemoved("1")));
+        persister.saveIfChanged();
+        assertEquals(0, EmployeeSnapshotFile.read(path, interner).snapshot().size());
+    }
+
+    private Employee createEmployee(String id, String name) {
+        return new Employee(id, name, 50000, 30, "Developer", name.toLowerCase(), "example.com");
+    }
+}
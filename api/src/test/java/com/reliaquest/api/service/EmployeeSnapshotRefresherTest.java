@@ -0,0 +1,94 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.reliaquest.api.exception.ApiException;
+import com.reliaquest.api.store.EmployeeSnapshot;
+import com.reliaquest.api.store.EmployeeSnapshotStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeSnapshotRefresherTest {
+
+    @Mock
+    private EmployeeService employeeService;
+
+    @Mock
+    private EmployeeSnapshotStore snapshotStore;
+
+    private SimpleMeterRegistry meterRegistry;
+    private EmployeeSnapshotRefresher refresher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        refresher = new EmployeeSnapshotRefresher(employeeService, snapshotStore, meterRegistry);
+        ReflectionTestUtils.setField(refresher, "refreshAfterMillis", 0L);
+    }
+
+    @Test
+    void testRefreshIfStale_SkipsWhenNothingLoaded() {
+        when(snapshotStore.current()).thenReturn(Optional.empty());
+
+        refresher.refreshIfStale();
+
+        verifyNoInteractions(employeeService);
+    }
+
+    @Test
+    void testRefreshIfStale_SkipsFreshSnapshot() {
+        ReflectionTestUtils.setField(refresher, "refreshAfterMillis", 60_000L);
+        when(snapshotStore.current()).thenReturn(Optional.of(EmployeeSnapshot.empty()));
+
+        refresher.refreshIfStale();
+
+        verifyNoInteractions(employeeService);
+    }
+
+    @Test
+    void testRefreshIfStale_PublishesReloadedSnapshot() {
+        EmployeeSnapshot reloaded = EmployeeSnapshot.empty();
+        when(snapshotStore.current()).thenReturn(Optional.of(EmployeeSnapshot.empty()));
+        when(employeeService.fetchSnapshot()).thenReturn(reloaded);
+        when(snapshotStore.beginFetch()).thenReturn(7L);
+        when(snapshotStore.publish(reloaded, 7L)).thenReturn(reloaded);
+
+        refresher.refreshIfStale();
+
+        verify(snapshotStore).publish(reloaded, 7L);
+        assertEquals(
+                1,
+                meterRegistry
+                        .get("employee.snapshot.refresh")
+                        .tag("outcome", "success")
+                        .timer()
+                        .count());
+    }
+
+    @Test
+    void testRefresh_KeepsServingPreviousSnapshotOnFailure() {
+        when(snapshotStore.current()).thenReturn(Optional.of(EmployeeSnapshot.empty()));
+        when(employeeService.fetchSnapshot())
+                .thenThrow(new ApiException("Rate Limit Reached", HttpStatus.TOO_MANY_REQUESTS));
+
+        assertDoesNotThrow(() -> refresher.refresh());
+
+        verify(snapshotStore, never()).publish(any(), anyLong());
+        assertEquals(
+                1,
+                meterRegistry
+                        .get("employee.snapshot.refresh")
+                        .tag("outcome", "failure")
+                        .timer()
+                        .count());
+    }
+}
@@ -0,0 +1,131 @@
+package com.reliaquest.api.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.exception.ApiException;
+import com.reliaquest.api.store.Employee;
+import com.reliaquest.api.store.EmployeeSnapshot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeWarmupTest {
+
+    @Mock
+    private EmployeeService employeeService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void testRun_PrefetchesBeforeReturning() throws InterruptedException {
+        EmployeeWarmup warmup = warmup(true, 500, 60_000L);
+        when(employeeService.snapshot()).thenReturn(EmployeeSnapshot.of(roster(50)));
+
+        assertFalse(warmup.isComplete());
+        warmup.run(null);
+
+        verify(employeeService).getTopTenEmployeeNamesBySalary();
+        verify(employeeService).getSalaryStats();
+        assertEquals("complete", warmup.getOutcome());
+        assertTrue(warmup.isComplete());
+        assertEquals(
+                1,
+                meterRegistry
+                        .get("employee.warmup")
+                        .tag("outcome", "complete")
+                        .timer()
+                        .count());
+    }
+
+    @Test
+    void testRun_ReturnsAtBudgetWhilePrefetchHangs() throws InterruptedException {
+        EmployeeWarmup warmup = warmup(true, 500, 50L);
+        CountDownLatch release = new CountDownLatch(1);
+        when(employeeService.snapshot()).thenAnswer(invocation -> {
+            release.await();
+            return EmployeeSnapshot.of(roster(10));
+        });
+
+        try {
+            warmup.run(null);
+
+            assertEquals("pending", warmup.getOutcome());
+            assertTrue(warmup.isComplete());
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void testWarmUp_FailedPrefetchStillReportsReady() {
+        EmployeeWarmup warmup = started(warmup(true, 500, 60_000L));
+        when(employeeService.snapshot())
+                .thenThrow(new ApiException("Upstream unavailable", HttpStatus.SERVICE_UNAVAILABLE));
+
+        warmup.warmUp();
+
+        assertEquals("prefetch failed", warmup.getOutcome());
+        assertTrue(warmup.isComplete());
+    }
+
+    @Test
+    void testExercise_StopsAtBudget() {
+        EmployeeWarmup warmup = started(warmup(true, 500, 0L));
+
+        assertEquals(0, warmup.exercise(EmployeeSnapshot.of(roster(10))));
+        assertTrue(warmup.isComplete());
+    }
+
+    @Test
+    void testRun_DisabledIsReadyImmediately() throws InterruptedException {
+        EmployeeWarmup warmup = warmup(false, 500, 60_000L);
+
+        warmup.run(null);
+
+        assertEquals("disabled", warmup.getOutcome());
+        assertTrue(warmup.isComplete());
+        verifyNoInteractions(employeeService);
+    }
+
+    private EmployeeWarmup warmup(boolean enabled, int iterations, long budgetMillis) {
+        return new EmployeeWarmup(
+                employeeService,
+                new MappingJackson2HttpMessageConverter(new ObjectMapper()),
+                meterRegistry,
+                enabled,
+                iterations,
+                budgetMillis);
+    }
+
+    private static EmployeeWarmup started(EmployeeWarmup warmup) {
+        ReflectionTestUtils.setField(warmup, "startedAt", Instant.now());
+        return warmup;
+    }
+
+    private static List<Employee> roster(int size) {
+        List<Employee> employees = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            employees.add(new Employee(
+                    String.valueOf(i),
+                    "Employee " + i,
+                    40000 + i * 100,
+                    30,
+                    "Engineer",
+                    "employee" + i,
+                    "example.com"));
+        }
+        return employees;
+    }
+}
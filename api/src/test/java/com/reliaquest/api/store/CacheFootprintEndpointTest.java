@@ -0,0 +1,93 @@
+package com.reliaquest.api.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.reliaquest.api.dto.EmployeeDTO;
+import com.reliaquest.api.store.CacheFootprintEndpoint.Footprint;
+import com.reliaquest.api.store.CacheFootprintEndpoint.Report;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleCacheManager;
+
+class CacheFootprintEndpointTest {
+
+    private final EmployeeInterner interner = new EmployeeInterner();
+    private SimpleCacheManager cacheManager;
+    private CacheFootprintEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(List.of(
+                new CaffeineCache(EmployeeSnapshotStore.BY_ID_CACHE_NAME, Caffeine.newBuilder().build()),
+                new CaffeineCache(EmployeeSnapshotStore.SEARCH_CACHE_NAME, Caffeine.newBuilder().build()),
+                new CaffeineCache(EmployeeSnapshotStore.CACHE_NAME, Caffeine.newBuilder().build())));
+        cacheManager.afterPropertiesSet();
+        endpoint = new CacheFootprintEndpoint(cacheManager, interner);
+    }
+
+    @Test
+    void testFootprint_CountsSharedEmployeesOnceInTotal() {
+        Employee alice = createEmployee("1", "Alice");
+        Employee bob = createEmployee("2", "Bob");
+        EmployeeSnapshot snapshot = EmployeeSnapshot.of(List.of(alice, bob));
+        cacheManager.getCache(EmployeeSnapshotStore.CACHE_NAME).put("snapshot", snapshot);
+        cacheManager.getCache(EmployeeSnapshotStore.BY_ID_CACHE_NAME).put("1", alice);
+        cacheManager.getCache(EmployeeSnapshotStore.SEARCH_CACHE_NAME).put("ali", snapshot.searchByName("ali"));
+
+        Report report = endpoint.footprint();
+
+        Footprint byId = report.caches().get(EmployeeSnapshotStore.BY_ID_CACHE_NAME);
+        Footprint snapshotFootprint = report.caches().get(EmployeeSnapshotStore.CACHE_NAME);
+        assertEquals(1, byId.entries());
+        assertEquals(1, byId.employees());
+        assertTrue(byId.estimatedBytes() > 0);
+        assertEquals(2, snapshotFootprint.employees());
+        assertEquals(1, report.snapshotColumns().entries());
+        assertEquals(0, report.snapshotColumns().employees());
+        assertTrue(report.snapshotColumns().estimatedBytes() > 0);
+        assertEquals(3 + report.interner().entries(), report.total().entries());
+        assertEquals(2, report.total().employees());
+        long sum = report.caches().values().stream().mapToLong(Footprint::estimatedBytes).sum()
+                + report.snapshotColumns().estimatedBytes()
+                + report.interner().estimatedBytes();
+        assertTrue(report.total().estimatedBytes() < sum);
+    }
+
+    @Test
+    void testFootprint_ReportsInternedTitlesAndDomains() {
+        createEmployee("1", "Alice");
+        createEmployee("2", "Bob");
+
+        Footprint dictionaries = endpoint.footprint().interner();
+
+        assertEquals(2, dictionaries.entries());
+        assertEquals(0, dictionaries.employees());
+        assertTrue(dictionaries.estimatedBytes() > 0);
+    }
+
+    @Test
+    void testFootprint_EmptyCaches() {
+        Report report = endpoint.footprint();
+
+        assertEquals(3, report.caches().size());
+        report.caches().values().forEach(footprint -> assertEquals(new Footprint(0, 0, 0), footprint));
+        assertEquals(new Footprint(0, 0, 0), report.snapshotColumns());
+        assertEquals(new Footprint(0, 0, 0), report.interner());
+        assertEquals(new Footprint(0, 0, 0), report.total());
+    }
+
+    private Employee createEmployee(String id, String name) {
+        EmployeeDTO dto = new EmployeeDTO();
+        dto.setId(id);
+        dto.setName(name);
+        dto.setSalary(50000);
+        dto.setAge(30);
+        dto.setTitle("Engineer");
+        dto.setEmail(name.toLowerCase() + "@example.com");
+        return interner.intern(dto);
+    }
+}
@@ -0,0 +1,67 @@
+package com.reliaquest.api.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class EmployeeColumnsTest {
+
+    @Test
+    void testOf_AggregatesSalaries() {
+        EmployeeColumns columns = EmployeeColumns.of(List.of(
+                createEmployee(50000, 30, "Engineer"),
+                createEmployee(90000, 40, "Manager"),
+                createEmployee(70000, 25, "Engineer")));
+
+        assertEquals(3, columns.size());
+        assertEquals(90000, columns.highestSalary());
+        assertEquals(50000, columns.lowestSalary());
+        assertEquals(210000, columns.totalSalary());
+    }
+
+    @Test
+    void testOf_EmptyRoster() {
+        EmployeeColumns columns = EmployeeColumns.of(List.of());
+
+        assertEquals(0, columns.highestSalary());
+        assertEquals(0, columns.lowestSalary());
+        assertEquals(0, columns.totalSalary());
+        assertArrayEquals(new int[0], columns.matching(null, null, null, null, null));
+    }
+
+    @Test
+    void testMatching_AppliesEveryBoundInclusively() {
+        EmployeeColumns columns = EmployeeColumns.of(List.of(
+                createEmployee(50000, 30, "Engineer"),
+                createEmployee(90000, 40, "Manager"),
+                createEmployee(70000, 25, "engineer"),
+                createEmployee(70000, null, null)));
+
+        assertArrayEquals(new int[] {0, 1, 2, 3}, columns.matching(null, null, null, null, null));
+        assertArrayEquals(new int[] {0, 2}, columns.matching("ENGINEER", null, null, null, null));
+        assertArrayEquals(new int[] {1, 2, 3}, columns.matching(null, 70000, 90000, null, null));
+        assertArrayEquals(new int[] {0, 2}, columns.matching(null, null, null, 25, 30));
+        assertArrayEquals(new int[] {2}, columns.matching("Engineer", 60000, null, null, 30));
+        assertArrayEquals(new int[0], columns.matching("Director", null, null, null, null));
+    }
+
+    @Test
+    void testWithAddedAndRemoved_KeepColumnsAlignedWithRoster() {
+        EmployeeColumns columns = EmployeeColumns.of(List.of(
+                createEmployee(50000, 30, "Engineer"), createEmployee(90000, 40, "Manager")));
+
+        EmployeeColumns added = columns.withAdded(createEmployee(120000, 50, "Director"));
+        EmployeeColumns removed = added.withRemoved(0);
+
+        assertArrayEquals(new int[] {2}, added.matching("director", null, null, null, null));
+        assertArrayEquals(new int[0], columns.matching("director", null, null, null, null));
+        assertArrayEquals(new int[] {1}, removed.matching("Director", null, null, null, null));
+        assertEquals(90000, removed.lowestSalary());
+        assertEquals(210000, removed.totalSalary());
+    }
+
+    private Employee createEmployee(int salary, Integer age, String title) {
+        return new Employee(null, "Employee", salary, age == null ? Employee.MISSING : age, title, null, null);
+    }
+}
@@ -0,0 +1,87 @@
+package com.reliaquest.api.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.dto.EmployeeDTO;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class EmployeeInternerTest {
+
+    private final EmployeeInterner interner = new EmployeeInterner();
+
+    @Test
+    void testIntern_SharesTitlesAndDomainsAcrossEmployees() {
+        Employee alice = interner.intern(createEmployee("1", "Alice"));
+        Employee bob = interner.intern(createEmployee("2", "Bob"));
+
+        assertSame(alice.title(), bob.title());
+        assertSame(alice.emailDomain(), bob.emailDomain());
+        assertEquals(Set.of("Engineer"), interner.titles());
+        assertEquals(Set.of("example.com"), interner.domains());
+    }
+
+    @Test
+    void testIntern_MapsBackToTheSameDto() {
+        EmployeeDTO decoded = createEmployee("1", "Alice");
+
+        Employee employee = interner.intern(decoded);
+
+        assertEquals(50000, employee.salary());
+        assertEquals(30, employee.age());
+        assertEquals("alice", employee.emailLocalPart());
+        assertEquals("alice@example.com", employee.email());
+        assertEquals(decoded, employee.toDto());
+    }
+
+    @Test
+    void testIntern_SplitsEmailAtLastAt() {
+        EmployeeDTO quoted = createEmployee("1", "Alice");
+        quoted.setEmail("\"a@b\"@example.com");
+        EmployeeDTO local = createEmployee("2", "Bob");
+        local.setEmail("bob");
+
+        Employee first = interner.intern(quoted);
+        Employee second = interner.intern(local);
+
+        assertEquals("\"a@b\"", first.emailLocalPart());
+        assertEquals("example.com", first.emailDomain());
+        assertEquals("bob", second.emailLocalPart());
+        assertNull(second.emailDomain());
+        assertEquals("bob", second.email());
+    }
+
+    @Test
+    void testIntern_KeepsMissingFieldsMissing() {
+        EmployeeDTO partial = new EmployeeDTO();
+        partial.setId("1");
+        partial.setName("Carol");
+
+        Employee employee = interner.intern(partial);
+
+        assertEquals(Employee.MISSING, employee.salary());
+        assertEquals(Employee.MISSING, employee.age());
+        assertNull(employee.title());
+        assertNull(employee.email());
+        assertEquals(partial, employee.toDto());
+        assertTrue(interner.titles().isEmpty());
+        assertTrue(interner.domains().isEmpty());
+    }
+
+    @Test
+    void testIntern_PassesNullThrough() {
+        assertNull(interner.intern(null));
+    }
+
+    private EmployeeDTO createEmployee(String id, String name) {
+        EmployeeDTO dto = new EmployeeDTO();
+        dto.setId(id);
+        dto.setName(name);
+        dto.setSalary(50000);
+        dto.setAge(30);
+        // A distinct String per employee, as each one is decoded from its own JSON object
+        dto.setTitle(new String("Engineer"));
+        dto.setEmail(name.toLowerCase() + "@example.com");
+        return dto;
+    }
+}
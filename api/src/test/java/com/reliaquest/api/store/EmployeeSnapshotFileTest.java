@@ -0,0 +1,74 @@
+package com.reliaquest.api.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.store.EmployeeSnapshotFile.Restored;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class EmployeeSnapshotFileTest {
+
+    private final EmployeeInterner interner = new EmployeeInterner();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testWriteAndRead_RoundTripsRosterAndFetchTime() throws IOException {
+        Employee partial = new Employee("2", "Zo\u00eb", 70000, Employee.MISSING, "Engineer", null, null);
+        EmployeeSnapshot snapshot = EmployeeSnapshot.of(List.of(createEmployee("1", "Alice", 50000), partial));
+        Path path = directory.resolve("nested/employees.snapshot");
+
+        EmployeeSnapshotFile.write(path, snapshot);
+        Restored restored = EmployeeSnapshotFile.read(path, interner);
+
+        assertEquals(snapshot.getVersion(), restored.version());
+        assertNotEquals(snapshot.getVersion(), restored.snapshot().getVersion());
+        assertEquals(snapshot.getLoadedAt().toEpochMilli(), restored.snapshot().getLoadedAt().toEpochMilli());
+        assertEquals(snapshot.getEmployees(), restored.snapshot().getEmployees());
+        assertEquals(70000, restored.snapshot().getHighestSalary());
+        List<Employee> employees = restored.snapshot().getEmployees();
+        assertSame(employees.get(0).title(), employees.get(1).title());
+    }
+
+    @Test
+    void testWrite_ReplacesPreviousFileWithoutLeftovers() throws IOException {
+        Path path = directory.resolve("employees.snapshot");
+
+        EmployeeSnapshotFile.write(path, EmployeeSnapshot.of(List.of(createEmployee("1", "Alice", 50000))));
+        EmployeeSnapshotFile.write(path, EmployeeSnapshot.empty());
+
+        assertEquals(0, EmployeeSnapshotFile.read(path, interner).snapshot().size());
+        try (var files = Files.list(directory)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    void testRead_RejectsCorruptedPayload() throws IOException {
+        Path path = directory.resolve("employees.snapshot");
+        EmployeeSnapshotFile.write(path, EmployeeSnapshot.of(List.of(createEmployee("1", "Alice", 50000))));
+        byte[] bytes = Files.readAllBytes(path);
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(path, bytes);
+
+        IOException e = assertThrows(IOException.class, () -> EmployeeSnapshotFile.read(path, interner));
+        assertTrue(e.getMessage().contains("checksum"));
+    }
+
+    @Test
+    void testRead_RejectsTruncatedFile() throws IOException {
+        Path path = directory.resolve("employees.snapshot");
+        Files.write(path, new byte[] {1, 2, 3});
+
+        assertThrows(IOException.class, () -> EmployeeSnapshotFile.read(path, interner));
+    }
+
+    private Employee createEmployee(String id, String name, int salary) {
+        return new Employee(id, name, salary, 30, "Engineer", name.toLowerCase(), "example.com");
+    }
+}
@@ -0,0 +1,147 @@
+package com.reliaquest.api.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+class EmployeeSnapshotStoreTest {
+
+    private static final int ROUNDS = 2_000;
+
+    private EmployeeSnapshotStore store;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        store = new EmployeeSnapshotStore(new CaffeineCacheManager(
+                EmployeeSnapshotStore.CACHE_NAME,
+                EmployeeSnapshotStore.SEARCH_CACHE_NAME,
+                EmployeeSnapshotStore.BY_ID_CACHE_NAME));
+        executor = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testPublish_InterleavedWithApplyCreatedKeepsBothCopiesInStep() throws Exception {
+        List<Employee> roster = List.of(createEmployee("1", "Alice"), createEmployee("2", "Bob"));
+        store.publish(EmployeeSnapshot.of(roster));
+        CountDownLatch start = new CountDownLatch(1);
+
+        Future<?> publisher = executor.submit(() -> {
+            start.await();
+            for (int i = 0; i < ROUNDS; i++) {
+                store.publish(EmployeeSnapshot.of(roster));
+            }
+            return null;
+        });
+        Future<?> creator = executor.submit(() -> {
+            start.await();
+            for (int i = 0; i < ROUNDS; i++) {
+                store.applyCreated(createEmployee("new-" + i, "New " + i));
+            }
+            return null;
+        });
+        start.countDown();
+        publisher.get(30, TimeUnit.SECONDS);
+        creator.get(30, TimeUnit.SECONDS);
+
+        assertSame(store.current().orElseThrow(), store.lastKnownGood().orElseThrow());
+        store.applyCreated(createEmployee("last", "Last"));
+        assertTrue(store.current().orElseThrow().findById("last").isPresent());
+        assertTrue(store.lastKnownGood().orElseThrow().findById("last").isPresent());
+    }
+
+    @Test
+    void testPublish_ReplaysDeleteAppliedDuringSlowFetch() throws Exception {
+        Employee alice = createEmployee("1", "Alice");
+        Employee bob = createEmployee("2", "Bob");
+        store.publish(EmployeeSnapshot.of(List.of(alice, bob)));
+        CountDownLatch fetchStarted = new CountDownLatch(1);
+        CountDownLatch deleted = new CountDownLatch(1);
+
+        Future<EmployeeSnapshot> refresh = executor.submit(() -> {
+            long fetchStartedAt = store.beginFetch();
+            fetchStarted.countDown();
+            // The upstream answers with the roster as it was before the delete reached it
+            deleted.await();
+            return store.publish(EmployeeSnapshot.of(List.of(alice, bob)), fetchStartedAt);
+        });
+        fetchStarted.await(5, TimeUnit.SECONDS);
+        store.applyDeleted(bob);
+        deleted.countDown();
+        EmployeeSnapshot published = refresh.get(5, TimeUnit.SECONDS);
+
+        assertTrue(published.findById("2").isEmpty());
+        assertSame(published, store.current().orElseThrow());
+        assertSame(published, store.lastKnownGood().orElseThrow());
+        assertEquals(1, published.size());
+    }
+
+    @Test
+    void testPublish_ReplaysCreateAppliedDuringFetch() {
+        store.publish(EmployeeSnapshot.of(List.of(createEmployee("1", "Alice"))));
+        long fetchStartedAt = store.beginFetch();
+        store.applyCreated(createEmployee("2", "Bob"));
+
+        EmployeeSnapshot published =
+                store.publish(EmployeeSnapshot.of(List.of(createEmployee("1", "Alice"))), fetchStartedAt);
+
+        assertTrue(published.findById("2").isPresent());
+        assertTrue(store.current().orElseThrow().findById("2").isPresent());
+    }
+
+    @Test
+    void testPublish_KeepsSnapshotFromLaterFetch() {
+        long earlierFetch = store.beginFetch();
+        long laterFetch = store.beginFetch();
+        EmployeeSnapshot later = EmployeeSnapshot.of(List.of(createEmployee("1", "Alice")));
+        store.publish(later, laterFetch);
+
+        EmployeeSnapshot result = store.publish(EmployeeSnapshot.of(List.of(createEmployee("2", "Bob"))), earlierFetch);
+
+        assertSame(later, result);
+        assertSame(later, store.current().orElseThrow());
+        assertSame(later, store.lastKnownGood().orElseThrow());
+    }
+
+    @Test
+    void testPublish_UnchangedRosterKeepsVersion() {
+        List<Employee> roster = List.of(createEmployee("1", "Alice"), createEmployee("2", "Bob"));
+        EmployeeSnapshot published = EmployeeSnapshot.of(roster);
+        store.publish(published);
+        EmployeeSnapshot refetched = EmployeeSnapshot.of(roster);
+
+        EmployeeSnapshot result = store.publish(refetched, store.beginFetch());
+
+        assertEquals(published.getVersion(), result.getVersion());
+        assertEquals(refetched.getLoadedAt(), result.getLoadedAt());
+        assertSame(result, store.current().orElseThrow());
+        assertSame(result, store.lastKnownGood().orElseThrow());
+    }
+
+    @Test
+    void testPublish_InstallsFetchedSnapshot() {
+        EmployeeSnapshot loaded = EmployeeSnapshot.of(List.of(createEmployee("1", "Alice")));
+
+        assertSame(loaded, store.publish(loaded, store.beginFetch()));
+        assertSame(loaded, store.current().orElseThrow());
+        assertSame(loaded, store.lastKnownGood().orElseThrow());
+    }
+
+    private Employee createEmployee(String id, String name) {
+        return new Employee(id, name, 50000, 30, "Engineer", name.toLowerCase(), "example.com");
+    }
+}
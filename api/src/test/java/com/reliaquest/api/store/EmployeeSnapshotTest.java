@@ -0,0 +1,226 @@
+package com.reliaquest.api.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.dto.EmployeeFilter;
+import com.reliaquest.api.dto.SalaryStatsDTO;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class EmployeeSnapshotTest {
+
+    @Test
+    void testOf_ComputesAggregatesInOnePass() {
+        EmployeeSnapshot snapshot = EmployeeSnapshot.of(List.of(
+                createEmployee("1", "Alice", 50000),
+                createEmployee("2", "Bob", 90000),
+                createEmployee("3", "Carol", 70000)));
+
+        assertEquals(3, snapshot.size());
+        assertEquals(90000, snapshot.getHighestSalary());
+        assertEquals(50000, snapshot.getLowestSalary());
+        assertEquals(210000, snapshot.getTotalSalary());
+        assertEquals(70000, snapshot.getAverageSalary());
+        assertEquals(List.of("Bob", "Carol", "Alice"), snapshot.getTopEarnerNames(10));
+        assertEquals("Carol", snapshot.findById("3").orElseThrow().name());
+        assertTrue(snapshot.findById("4").isEmpty());
+    }
+
+    @Test
+    void testOf_TopEarnersMatchStableDescendingSort() {
+        Random random = new Random(42);
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            employees.add(createEmployee(String.valueOf(i), "E" + i, random.nextInt(50) * 1000));
+        }
+
+        List<String> expected = employees.stream()
+                .sorted(Comparator.comparingInt(Employee::salary).reversed())
+                .limit(EmployeeSnapshot.TOP_EARNERS_LIMIT)
+                .map(Employee::name)
+                .toList();
+
+        assertEquals(expected, EmployeeSnapshot.of(employees).getTopEarnerNames(EmployeeSnapshot.TOP_EARNERS_LIMIT));
+    }
+
+    @Test
+    void testOf_EmptyRoster() {
+        EmployeeSnapshot snapshot = EmployeeSnapshot.empty();
+
+        assertEquals(0, snapshot.getHighestSalary());
+        assertEquals(0, snapshot.getLowestSalary());
+        assertEquals(0, snapshot.getAverageSalary());
+        assertTrue(snapshot.getTopEarnerNames(10).isEmpty());
+    }
+
+    @Test
+    void testOf_AssignsIncreasingVersions() {
+        EmployeeSnapshot first = EmployeeSnapshot.empty();
+        EmployeeSnapshot second = EmployeeSnapshot.empty();
+
+        assertTrue(second.getVersion() > first.getVersion());
+    }
+
+    @Test
+    void testWithAdded_UpdatesAggregatesAndTopEarners() {
+        EmployeeSnapshot snapshot = EmployeeSnapshot.of(List.of(
+                createEmployee("1", "Alice", 50000), createEmployee("2", "Bob", 90000)));
+
+        EmployeeSnapshot updated = snapshot.withAdded(createEmployee("3", "Carol", 120000));
+
+        assertEquals(3, updated.size());
+        assertEquals(120000, updated.getHighestSalary());
+        assertEquals(50000, updated.getLowestSalary());
+        assertEquals(260000, updated.getTotalSalary());
+        assertEquals(List.of("Carol", "Bob", "Alice"), updated.getTopEarnerNames(10));
+        assertEquals(1, updated.searchByName("car").size());
+        assertEquals(snapshot.getLoadedAt(), updated.getLoadedAt());
+        assertTrue(updated.getVersion() > snapshot.getVersion());
+        assertEquals(2, snapshot.size());
+    }
+
+    @Test
+    void testWithRemoved_RescansWhenExtremeIsRemoved() {
+        EmployeeSnapshot snapshot = EmployeeSnapshot.of(List.of(
+                createEmployee("1", "Alice", 50000),
+                createEmployee("2", "Bob", 90000),
+                createEmployee("3", "Carol", 70000)));
+
+        EmployeeSnapshot updated = snapshot.withRemoved("2");
+
+        assertEquals(2, updated.size());
+        assertEquals(70000, updated.getHighestSalary());
+        assertEquals(50000, updated.getLowestSalary());
+        assertEquals(120000, updated.getTotalSalary());
+        assertEquals(List.of("Carol", "Alice"), updated.getTopEarnerNames(10));
+        assertTrue(updated.findById("2").isEmpty());
+        assertTrue(updated.searchByName("bob").isEmpty());
+    }
+
+    @Test
+    void testWithRemoved_UnknownIdLeavesRosterUnchanged() {
+        EmployeeSnapshot snapshot = EmployeeSnapshot.of(List.of(createEmployee("1", "Alice", 50000)));
+
+        assertEquals(1, snapshot.withRemoved("9").size());
+    }
+
+    @Test
+    void testWithAddedAndRemoved_MatchRebuiltSnapshot() {
+        Random random = new Random(11);
+        List<Employee> roster = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            roster.add(createEmployee(String.valueOf(i), "E" + i, random.nextInt(50) * 1000));
+        }
+        EmployeeSnapshot snapshot = EmployeeSnapshot.of(roster);
+
+        for (int i = 0; i < 500; i++) {
+            if (random.nextBoolean() && !roster.isEmpty()) {
+                Employee removed = roster.remove(random.nextInt(roster.size()));
+                snapshot = snapshot.withRemoved(removed.id());
+            } else {
+                Employee added = createEmployee("n" + i, "N" + i, random.nextInt(50) * 1000);
+                roster.add(added);
+                snapshot = snapshot.withAdded(added);
+            }
+        }
+
+        EmployeeSnapshot rebuilt = EmployeeSnapshot.of(roster);
+        assertEquals(rebuilt.size(), snapshot.size());
+        assertEquals(rebuilt.getHighestSalary(), snapshot.getHighestSalary());
+        assertEquals(rebuilt.getLowestSalary(), snapshot.getLowestSalary());
+        assertEquals(rebuilt.getTotalSalary(), snapshot.getTotalSalary());
+        assertEquals(
+                rebuilt.getTopEarnerNames(EmployeeSnapshot.TOP_EARNERS_LIMIT),
+                snapshot.getTopEarnerNames(EmployeeSnapshot.TOP_EARNERS_LIMIT));
+    }
+
+    @Test
+    void testWithAddedAll_MatchesRepeatedWithAdded() {
+        EmployeeSnapshot snapshot = EmployeeSnapshot.of(List.of(createEmployee("1", "Alice", 50000)));
+
+        for (int size : new int[] {3, EmployeeSnapshot.INCREMENTAL_BATCH_LIMIT + 5}) {
+            List<Employee> added = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                added.add(createEmployee("b" + i, "B" + i, 60000 + i * 1000));
+            }
+            added.add(createEmployee("b0", "Replaced", 1000));
+
+            EmployeeSnapshot expected = snapshot;
+            for (Employee employee : added) {
+                expected = expected.withAdded(employee);
+            }
+            EmployeeSnapshot updated = snapshot.withAddedAll(added);
+
+            assertEquals(size + 1, updated.size());
+            assertEquals("Replaced", updated.findById("b0").orElseThrow().name());
+            assertEquals(expected.getLowestSalary(), updated.getLowestSalary());
+            assertEquals(expected.getTotalSalary(), updated.getTotalSalary());
+            assertEquals(
+                    expected.getTopEarnerNames(EmployeeSnapshot.TOP_EARNERS_LIMIT),
+                    updated.getTopEarnerNames(EmployeeSnapshot.TOP_EARNERS_LIMIT));
+            assertEquals(snapshot.getLoadedAt(), updated.getLoadedAt());
+        }
+    }
+
+    @Test
+    void testFilter_FollowsIncrementalWrites() {
+        EmployeeSnapshot snapshot = EmployeeSnapshot.of(List.of(
+                createEmployee("1", "Alice", 50000),
+                createEmployee("2", "Bob", 90000),
+                createEmployee("3", "Carol", 70000)));
+        EmployeeFilter wellPaid = new EmployeeFilter("ENGINEER", 60000, null, null, null);
+
+        assertEquals(List.of("Bob", "Carol"), names(snapshot.filter(wellPaid)));
+
+        EmployeeSnapshot updated = snapshot.withRemoved("2").withAdded(createEmployee("4", "Dave", 80000));
+
+        assertEquals(List.of("Carol", "Dave"), names(updated.filter(wellPaid)));
+        assertEquals(50000, updated.withRemoved("3").withRemoved("4").getHighestSalary());
+    }
+
+    @Test
+    void testGetEmployeesAfterId_PagesInIdOrder() {
+        EmployeeSnapshot snapshot = EmployeeSnapshot.of(List.of(
+                createEmployee("b", "Bob", 90000),
+                createEmployee("d", "Dave", 40000),
+                createEmployee("a", "Alice", 50000),
+                createEmployee("c", "Carol", 70000)));
+
+        assertEquals(List.of("Alice", "Bob"), names(snapshot.getEmployeesAfterId(null, 2)));
+        assertEquals(List.of("Carol", "Dave"), names(snapshot.getEmployeesAfterId("b", 5)));
+        // A boundary id that has since been deleted still continues after it
+        assertEquals(List.of("Carol"), names(snapshot.withRemoved("b").getEmployeesAfterId("b", 1)));
+        assertTrue(snapshot.getEmployeesAfterId("d", 2).isEmpty());
+    }
+
+    @Test
+    void testGetSalaryStats_SummarizesRoster() {
+        EmployeeSnapshot snapshot = EmployeeSnapshot.of(List.of(
+                createEmployee("1", "Alice", 50000),
+                createEmployee("2", "Bob", 90000),
+                createEmployee("3", "Carol", 70000)));
+
+        SalaryStatsDTO stats = snapshot.getSalaryStats();
+
+        assertEquals(3, stats.count());
+        assertEquals(50000, stats.min());
+        assertEquals(90000, stats.max());
+        assertEquals(70000, stats.mean());
+        assertEquals(70000, stats.p50(), 700);
+        assertEquals(90000, stats.p99());
+        assertEquals(3, stats.histogram().get(3).count());
+        assertSame(stats, snapshot.getSalaryStats());
+        assertEquals(2, snapshot.withRemoved("2").getSalaryStats().count());
+    }
+
+    private static List<String> names(List<Employee> employees) {
+        return employees.stream().map(Employee::name).toList();
+    }
+
+    private Employee createEmployee(String id, String name, int salary) {
+        return new Employee(id, name, salary, 30, "Engineer", name.toLowerCase(), "example.com");
+    }
+}
@@ -0,0 +1,115 @@
+package com.reliaquest.api.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class NameSearchIndexTest {
+
+    @Test
+    void testSearch_MatchesSubstringsCaseInsensitively() {
+        NameSearchIndex index = NameSearchIndex.build(List.of(
+                createEmployee("1", "Alice Cooper"),
+                createEmployee("2", "Bob Alison"),
+                createEmployee("3", "Carol King")));
+
+        assertEquals(List.of("Alice Cooper", "Bob Alison"), names(index.search("ALI")));
+        assertEquals(List.of("Carol King"), names(index.search("ol k")));
+        assertTrue(index.search("xyz").isEmpty());
+    }
+
+    @Test
+    void testSearch_RequiresContiguousMatch() {
+        NameSearchIndex index = NameSearchIndex.build(List.of(createEmployee("1", "abcxbcd")));
+
+        // Both trigrams of "abcd" occur in the name, but not as one contiguous substring
+        assertTrue(index.search("abcd").isEmpty());
+        assertEquals(1, index.search("xbcd").size());
+    }
+
+    @Test
+    void testSearch_ShortQueriesFallBackToScan() {
+        NameSearchIndex index =
+                NameSearchIndex.build(List.of(createEmployee("1", "Al"), createEmployee("2", "Bob")));
+
+        assertEquals(List.of("Al"), names(index.search("a")));
+        assertEquals(List.of("Bob"), names(index.search("OB")));
+    }
+
+    @Test
+    void testSearch_ResultsAreOrderedByNameThenId() {
+        NameSearchIndex index = NameSearchIndex.build(List.of(
+                createEmployee("b", "Zed Smith"), createEmployee("c", "Ann Smith"), createEmployee("a", "Zed Smith")));
+
+        List<Employee> results = index.search("smith");
+
+        assertEquals(List.of("c", "a", "b"), results.stream().map(Employee::id).toList());
+    }
+
+    @Test
+    void testSearch_AgreesWithLinearScan() {
+        Random random = new Random(7);
+        String alphabet = "abcde ";
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            employees.add(createEmployee(String.valueOf(i), randomString(random, alphabet, 1 + random.nextInt(12))));
+        }
+        NameSearchIndex index = NameSearchIndex.build(employees);
+
+        for (int q = 0; q < 500; q++) {
+            String query = randomString(random, alphabet, 1 + random.nextInt(5)).toUpperCase(Locale.ROOT);
+            long expected = employees.stream()
+                    .filter(e -> e.name().toLowerCase(Locale.ROOT).contains(query.toLowerCase(Locale.ROOT)))
+                    .count();
+            assertEquals(expected, index.search(query).size(), "query '" + query + "'");
+        }
+    }
+
+    @Test
+    void testWithAddedAndRemoved_AgreeWithRebuiltIndex() {
+        Random random = new Random(13);
+        String alphabet = "abcde ";
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            employees.add(createEmployee(String.valueOf(i), randomString(random, alphabet, 1 + random.nextInt(12))));
+        }
+        NameSearchIndex index = NameSearchIndex.build(employees);
+
+        for (int i = 0; i < 300; i++) {
+            if (random.nextBoolean()) {
+                Employee removed = employees.remove(random.nextInt(employees.size()));
+                index = index.withRemoved(removed);
+            } else {
+                Employee added = createEmployee("n" + i, randomString(random, alphabet, 1 + random.nextInt(12)));
+                employees.add(added);
+                index = index.withAdded(added);
+            }
+        }
+
+        NameSearchIndex rebuilt = NameSearchIndex.build(employees);
+        for (int q = 0; q < 200; q++) {
+            String query = randomString(random, alphabet, 1 + random.nextInt(5));
+            assertEquals(names(rebuilt.search(query)), names(index.search(query)), "query '" + query + "'");
+        }
+    }
+
+    private static String randomString(Random random, String alphabet, int length) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return builder.toString();
+    }
+
+    private static List<String> names(List<Employee> employees) {
+        return employees.stream().map(Employee::name).toList();
+    }
+
+    private Employee createEmployee(String id, String name) {
+        return new Employee(id, name, 50000, Employee.MISSING, null, null, null);
+    }
+}
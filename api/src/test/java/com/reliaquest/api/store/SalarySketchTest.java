@@ -0,0 +1,75 @@
+package com.reliaquest.api.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class SalarySketchTest {
+
+    @Test
+    void testQuantile_IsWithinRelativeAccuracyOfExactRank() {
+        Random random = new Random(11);
+        List<Employee> roster = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            roster.add(createEmployee(String.valueOf(i), 20_000 + random.nextInt(400_000)));
+        }
+        SalarySketch sketch = SalarySketch.of(roster);
+        int[] sorted = roster.stream().mapToInt(Employee::salary).sorted().toArray();
+
+        for (double q : new double[] {0.01, 0.5, 0.9, 0.99, 1.0}) {
+            int exact = sorted[(int) Math.ceil(q * sorted.length) - 1];
+            assertEquals(exact, sketch.quantile(q), exact * SalarySketch.RELATIVE_ACCURACY + 1, "quantile " + q);
+        }
+    }
+
+    @Test
+    void testWithAddedAndWithRemoved_MatchRebuiltSketch() {
+        Employee alice = createEmployee("1", 50_000);
+        Employee bob = createEmployee("2", 150_000);
+        Employee carol = createEmployee("3", 2_000_000);
+
+        SalarySketch incremental = SalarySketch.of(List.of(alice, bob)).withAdded(carol).withRemoved(alice);
+        SalarySketch rebuilt = SalarySketch.of(List.of(bob, carol));
+
+        assertArrayEquals(rebuilt.histogram(), incremental.histogram());
+        assertEquals(rebuilt.quantile(0.5), incremental.quantile(0.5));
+        assertEquals(rebuilt.quantile(1.0), incremental.quantile(1.0));
+    }
+
+    @Test
+    void testMerge_MatchesSketchOfCombinedRoster() {
+        List<Employee> first = List.of(createEmployee("1", 9_000), createEmployee("2", 75_000));
+        List<Employee> second = List.of(createEmployee("3", 20_000), createEmployee("4", 600_000));
+        List<Employee> combined = new ArrayList<>(first);
+        combined.addAll(second);
+
+        SalarySketch merged = SalarySketch.of(first).merge(SalarySketch.of(second));
+        SalarySketch whole = SalarySketch.of(combined);
+
+        assertArrayEquals(whole.histogram(), merged.histogram());
+        assertEquals(whole.quantile(0.5), merged.quantile(0.5));
+    }
+
+    @Test
+    void testHistogram_CountsEachBandExactly() {
+        SalarySketch sketch = SalarySketch.of(List.of(
+                createEmployee("1", 9_999),
+                createEmployee("2", 10_000),
+                createEmployee("3", 75_000),
+                createEmployee("4", 5_000_000)));
+
+        assertArrayEquals(new int[] {1, 1, 0, 1, 0, 0, 0, 1}, sketch.histogram());
+    }
+
+    @Test
+    void testQuantile_EmptyRosterIsZero() {
+        assertEquals(0, SalarySketch.of(List.of()).quantile(0.5));
+    }
+
+    private Employee createEmployee(String id, int salary) {
+        return new Employee(id, "Employee " + id, salary, Employee.MISSING, null, null, null);
+    }
+}
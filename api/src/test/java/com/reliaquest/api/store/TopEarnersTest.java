@@ -0,0 +1,75 @@
+package com.reliaquest.api.store;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class TopEarnersTest {
+
+    @Test
+    void testTop_ReturnsPrefixOfStableDescendingOrder() {
+        List<Employee> employees = List.of(
+                createEmployee("1", 50000), createEmployee("2", 90000), createEmployee("3", 50000));
+
+        TopEarners topEarners = TopEarners.of(employees);
+
+        assertEquals(List.of("2", "1", "3"), ids(topEarners.top(10)));
+        assertEquals(List.of("2", "1"), ids(topEarners.top(2)));
+    }
+
+    @Test
+    void testWithAdded_NewcomerRanksAfterEqualSalaries() {
+        TopEarners topEarners = TopEarners.of(List.of(createEmployee("1", 50000), createEmployee("2", 90000)));
+
+        TopEarners updated = topEarners.withAdded(createEmployee("3", 50000));
+
+        assertEquals(List.of("2", "1", "3"), ids(updated.top(10)));
+        assertEquals(List.of("2", "1"), ids(topEarners.top(10)));
+    }
+
+    @Test
+    void testWritesMatchRebuiltRanking() {
+        // Enough employees that the ranking does not hold the whole roster, so deletes can drain it
+        Random random = new Random(3);
+        List<Employee> roster = new ArrayList<>();
+        for (int i = 0; i < 2_500; i++) {
+            roster.add(createEmployee("e" + i, random.nextInt(300) * 100));
+        }
+        TopEarners topEarners = TopEarners.of(roster);
+
+        for (int i = 0; i < 3_000; i++) {
+            if (random.nextInt(10) < 7) {
+                Employee removed = roster.remove(random.nextInt(roster.size()));
+                topEarners = topEarners.withRemoved(removed, roster);
+            } else {
+                Employee added = createEmployee("n" + i, random.nextInt(300) * 100);
+                roster.add(added);
+                topEarners = topEarners.withAdded(added);
+            }
+
+            if (i % 100 == 0) {
+                assertEquals(expectedTop(roster), ids(topEarners.top(TopEarners.MAX_K)), "after write " + i);
+            }
+        }
+    }
+
+    private static List<String> expectedTop(List<Employee> roster) {
+        return roster.stream()
+                .sorted(Comparator.comparingInt(Employee::salary).reversed())
+                .limit(TopEarners.MAX_K)
+                .map(Employee::id)
+                .toList();
+    }
+
+    private static List<String> ids(List<Employee> employees) {
+        return employees.stream().map(Employee::id).toList();
+    }
+
+    private Employee createEmployee(String id, int salary) {
+        return new Employee(id, "Employee " + id, salary, Employee.MISSING, null, null, null);
+    }
+}
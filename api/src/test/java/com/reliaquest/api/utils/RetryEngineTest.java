@@ -0,0 +1,179 @@
+package com.reliaquest.api.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.exception.ApiException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+class RetryEngineTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RetryEngine retryEngine;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        retryEngine = new RetryEngine(new CustomRetryListener(meterRegistry));
+        ReflectionTestUtils.setField(retryEngine, "maxAttempts", 3);
+        ReflectionTestUtils.setField(retryEngine, "delayMillis", 10L);
+        ReflectionTestUtils.setField(retryEngine, "multiplier", 2.0);
+        ReflectionTestUtils.setField(retryEngine, "maxDelayMillis", 50L);
+        ReflectionTestUtils.setField(retryEngine, "jitter", false);
+        ReflectionTestUtils.setField(retryEngine, "deadlineMillis", 5000L);
+    }
+
+    @Test
+    void testExecute_RetriesRetryableFailureUntilSuccess() {
+        AtomicInteger attempts = new AtomicInteger();
+        Mono<String> call = Mono.defer(() -> attempts.incrementAndGet() < 3
+                ? Mono.error(new ApiException("Rate Limit Reached", HttpStatus.TOO_MANY_REQUESTS))
+                : Mono.just("ok"));
+
+        assertEquals("ok", retryEngine.execute("fetchAll", call).block());
+        assertEquals(3, attempts.get());
+        assertEquals(2.0, counter("employee.upstream.retry.scheduled", "fetchAll"));
+    }
+
+    @Test
+    void testExecute_DoesNotRetryNonRetryableFailure() {
+        AtomicInteger attempts = new AtomicInteger();
+        Mono<String> call = Mono.defer(() -> {
+            attempts.incrementAndGet();
+            return Mono.error(new ApiException("Employee not found", HttpStatus.NOT_FOUND));
+        });
+
+        ApiException exception =
+                assertThrows(ApiException.class, () -> retryEngine.execute("fetchById", call).block());
+
+        assertEquals(HttpStatus.NOT_FOUND, exception.getStatus());
+        assertEquals(1, attempts.get());
+        assertEquals(1.0, exhausted("fetchById", "non-retryable"));
+    }
+
+    @Test
+    void testExecute_GivesUpAfterMaxAttempts() {
+        AtomicInteger attempts = new AtomicInteger();
+        Mono<String> call = Mono.defer(() -> {
+            attempts.incrementAndGet();
+            return Mono.error(new ApiException("Service Unavailable", HttpStatus.SERVICE_UNAVAILABLE));
+        });
+
+        ApiException exception = assertThrows(ApiException.class, () -> retryEngine.execute("create", call).block());
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exception.getStatus());
+        assertEquals(3, attempts.get());
+        assertEquals(1.0, exhausted("create", "attempts"));
+        assertEquals(3.0, meterRegistry.get("employee.upstream.retry.errors")
+                .tag("operation", "create")
+                .tag("status", "503")
+                .counter()
+                .count());
+    }
+
+    @Test
+    void testExecute_SkipsRetryThatWouldEndPastDeadline() {
+        ReflectionTestUtils.setField(retryEngine, "delayMillis", 1000L);
+        ReflectionTestUtils.setField(retryEngine, "maxDelayMillis", 1000L);
+        ReflectionTestUtils.setField(retryEngine, "deadlineMillis", 500L);
+        AtomicInteger attempts = new AtomicInteger();
+        Mono<String> call = Mono.defer(() -> {
+            attempts.incrementAndGet();
+            return Mono.error(new ApiException("Rate Limit Reached", HttpStatus.TOO_MANY_REQUESTS));
+        });
+
+        assertThrows(ApiException.class, () -> retryEngine.execute("fetchAll", call).block());
+
+        assertEquals(1, attempts.get());
+        assertEquals(1.0, exhausted("fetchAll", "deadline"));
+    }
+
+    @Test
+    void testExecute_FailsSlowCallAtDeadline() {
+        ReflectionTestUtils.setField(retryEngine, "deadlineMillis", 50L);
+
+        ApiException exception = assertThrows(
+                ApiException.class, () -> retryEngine.execute("fetchAll", Mono.never()).block());
+
+        assertEquals(HttpStatus.GATEWAY_TIMEOUT, exception.getStatus());
+    }
+
+    @Test
+    void testWithDeadline_SharesOneDeadlineAcrossCalls() {
+        ReflectionTestUtils.setField(retryEngine, "deadlineMillis", 200L);
+        Mono<String> slow = Mono.delay(Duration.ofMillis(150)).thenReturn("first");
+
+        Mono<String> both = retryEngine.withDeadline(retryEngine
+                .execute("fetchById", slow)
+                .flatMap(first -> retryEngine.execute("deleteByName", slow)));
+
+        ApiException exception = assertThrows(ApiException.class, both::block);
+        assertEquals(HttpStatus.GATEWAY_TIMEOUT, exception.getStatus());
+    }
+
+    @Test
+    void testExecute_SequentialCallsShareRequestDeadline() throws Exception {
+        RequestDeadlineFilter filter = new RequestDeadlineFilter();
+        ReflectionTestUtils.setField(filter, "deadlineMillis", 200L);
+        Mono<String> slow = Mono.delay(Duration.ofMillis(150)).thenReturn("ok");
+
+        filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), (request, response) -> {
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes((HttpServletRequest) request));
+            try {
+                assertEquals("ok", retryEngine.execute("fetchById", slow).block());
+
+                ApiException exception = assertThrows(
+                        ApiException.class, () -> retryEngine.execute("deleteByName", slow).block());
+                assertEquals(HttpStatus.GATEWAY_TIMEOUT, exception.getStatus());
+            } finally {
+                RequestContextHolder.resetRequestAttributes();
+            }
+        });
+    }
+
+    @Test
+    void testExecute_ReadsRequestDeadlineFromReactorContext() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(RetryEngine.DEADLINE_KEY, System.currentTimeMillis() + 50);
+
+        Mono<Long> call = retryEngine
+                .execute("fetchAll", Mono.never())
+                .contextWrite(Context.of(HttpServletRequest.class, request));
+
+        ApiException exception = assertThrows(ApiException.class, call::block);
+        assertEquals(HttpStatus.GATEWAY_TIMEOUT, exception.getStatus());
+    }
+
+    @Test
+    void testBackoff_GrowsByMultiplierAndIsCapped() {
+        assertEquals(10, retryEngine.backoff(1));
+        assertEquals(20, retryEngine.backoff(2));
+        assertEquals(40, retryEngine.backoff(3));
+        assertEquals(50, retryEngine.backoff(4));
+    }
+
+    private double counter(String name, String operation) {
+        return meterRegistry.get(name).tag("operation", operation).counter().count();
+    }
+
+    private double exhausted(String operation, String reason) {
+        return meterRegistry
+                .get("employee.upstream.retry.exhausted")
+                .tag("operation", operation)
+                .tag("reason", reason)
+                .counter()
+                .count();
+    }
+}
@@ -0,0 +1,151 @@
+package com.reliaquest.api.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.reliaquest.api.exception.ApiException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 32;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SingleFlight singleFlight;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        singleFlight = new SingleFlight(meterRegistry);
+        executor = Executors.newFixedThreadPool(CALLERS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testExecute_ConcurrentCallersShareOneUpstreamCall() throws Exception {
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = submitConcurrently(() -> singleFlight.execute("fetchById", "42", () -> {
+            upstreamCalls.incrementAndGet();
+            await(release);
+            return "John Doe";
+        }));
+        waitForCoalescedCallers(CALLERS - 1);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertEquals("John Doe", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, upstreamCalls.get());
+        assertEquals(1, count("fetchById", "leader"));
+        assertEquals(CALLERS - 1, count("fetchById", "coalesced"));
+        assertEquals(0, singleFlight.inFlightCount());
+    }
+
+    @Test
+    void testExecute_FailureIsSharedWithCoalescedCallers() throws Exception {
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = submitConcurrently(() -> singleFlight.execute("fetchAll", "all", () -> {
+            upstreamCalls.incrementAndGet();
+            await(release);
+            throw new ApiException("Rate Limit Reached", HttpStatus.TOO_MANY_REQUESTS);
+        }));
+        waitForCoalescedCallers(CALLERS - 1);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            Exception e = assertThrows(Exception.class, () -> result.get(5, TimeUnit.SECONDS));
+            ApiException cause = assertInstanceOf(ApiException.class, e.getCause());
+            assertEquals(HttpStatus.TOO_MANY_REQUESTS, cause.getStatus());
+        }
+        assertEquals(1, upstreamCalls.get());
+    }
+
+    @Test
+    void testExecute_DifferentKeysAndSequentialCallsAreNotCoalesced() {
+        AtomicInteger upstreamCalls = new AtomicInteger();
+
+        singleFlight.execute("fetchById", "1", upstreamCalls::incrementAndGet);
+        singleFlight.execute("fetchById", "2", upstreamCalls::incrementAndGet);
+        singleFlight.execute("fetchById", "1", upstreamCalls::incrementAndGet);
+
+        assertEquals(3, upstreamCalls.get());
+        assertEquals(3, count("fetchById", "leader"));
+    }
+
+    @Test
+    void testExecuteMono_LeaderCallRunsWithCallerContext() {
+        Long deadline = singleFlight
+                .executeMono(
+                        "fetchAll",
+                        "all",
+                        () -> Mono.deferContextual(
+                                context -> Mono.just(context.getOrDefault(RetryEngine.DEADLINE_KEY, -1L))))
+                .contextWrite(Context.of(RetryEngine.DEADLINE_KEY, 42L))
+                .block();
+
+        assertEquals(42L, deadline);
+        assertEquals(0, singleFlight.inFlightCount());
+    }
+
+    private List<Future<String>> submitConcurrently(Callable<String> call) {
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(call));
+        }
+        return results;
+    }
+
+    private void waitForCoalescedCallers(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.find("employee.upstream.singleflight").tag("role", "coalesced").counter() == null
+                || meterRegistry
+                                .find("employee.upstream.singleflight")
+                                .tag("role", "coalesced")
+                                .counter()
+                                .count()
+                        < expected) {
+            assertTrue(System.nanoTime() < deadline, "Callers did not coalesce in time");
+            Thread.sleep(5);
+        }
+    }
+
+    private double count(String operation, String role) {
+        return meterRegistry
+                .get("employee.upstream.singleflight")
+                .tag("operation", operation)
+                .tag("role", role)
+                .counter()
+                .count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}